@@ -62,27 +62,54 @@ public type PostgresqlConfig record {
 # + groupId - The identifier for the group of tasks. This is used to identify the group of tasks that are
 #             coordinating the task. It is recommended to use a unique identifier for each group of tasks.
 # + heartbeatFrequency - The interval (in seconds) for the node to update its heartbeat. Default is one second.
+# + persistFireState - Whether the active node persists the last fire time and the fire count of the services along
+#                      with its heartbeat, so that a node, which takes over, continues the schedule of the group.
+#                      This requires the `fire_state` table. Default is false.
 public type WarmBackupConfig record {
     DatabaseConfig databaseConfig = <MysqlConfig>{};
     int livenessCheckInterval = 30;
     string taskId;
     string groupId;
     int heartbeatFrequency = 1;
+    boolean persistFireState = false;
 };
 
+# The default priority of a trigger.
+public const int DEFAULT_PRIORITY = 5;
+
 # Worker count for the global scheduler
 public configurable int globalSchedulerWorkerCount = 5;
 
 # Waiting time for the global scheduler
 public configurable time:Seconds globalSchedulerWaitingTime = 5;
 
+# The duration the scheduler is kept alive after the last job is unscheduled, so that it is reused by the jobs
+# scheduled afterwards. As the scheduler keeps the program alive while it runs, it is shut down immediately by default
+public configurable time:Seconds schedulerKeepAliveTime = 0;
+
+# Possible options for the `StartupMode`.
+public enum StartupMode {
+  LAZY,
+  PREWARM,
+  LIGHTWEIGHT
+}
+
+# The startup mode of the scheduler. With `task:LAZY`, the scheduler is created when the first job is scheduled.
+# With `task:PREWARM`, the scheduler is created in the background when the module is initialized. With
+# `task:LIGHTWEIGHT`, only the thread of the one-time job timer is started in the background, and the scheduler is
+# created lazily. The one-time jobs run on the timer in every mode, so this only saves the startup of the timer thread
+# on the first one-time job
+public configurable StartupMode startupMode = LAZY;
+
 # Listener configuration.
 # 
 # + trigger - The trigger configuration for the listener
 # + warmBackupConfig - The configuration related to task coordination
+# + gracefulStopTimeout - The maximum duration (in seconds) the `gracefulStop` waits for the in-flight executions
 public type ListenerConfiguration record {
   TriggerConfiguration trigger;
   WarmBackupConfig? warmBackupConfig = ();
+  decimal gracefulStopTimeout = 10;
 };
 
 # Recurring schedule configuration.
@@ -94,6 +121,10 @@ public type ListenerConfiguration record {
 # + endTime - The trigger end time in Ballerina `time:Civil`
 # + taskPolicy - The policy, which is used to handle the error and will be waiting during the trigger time
 # + retryConfig - The retry configurations for job executions
+# + priority - The priority of the trigger. When the scheduler is saturated, the triggers with a higher priority
+#              are executed first
+# + phaseSpread - The phase spread configuration, which offsets the first fires of the attached services so that
+#                 they do not all fire at the same instant
 public type TriggerConfiguration record {|
     decimal interval;
     int maxCount = -1;
@@ -104,8 +135,31 @@ public type TriggerConfiguration record {|
         waitingPolicy: WAIT
     };
     RetryConfiguration? retryConfig = ();
+    int priority = DEFAULT_PRIORITY;
+    PhaseSpreadConfig? phaseSpread = ();
 |};
 
+# Phase spread configuration, which spreads the fires of the jobs sharing the same interval and start time across
+# the interval. Each job is started at an offset from its start time, so that its average frequency is not changed.
+#
+# + maxOffset - The maximum offset (in seconds) of the start time. The offset is also bounded by the interval
+# + mode - The mode, which is used to derive the offset of each job
+# + key - The key, which the `task:HASHED` offset of a job is derived from. A job, which is scheduled with the same key,
+#         gets the same offset across the runs of the program. Without a key, the offset is derived from the job ID,
+#         which is generated at random when the job is scheduled
+public type PhaseSpreadConfig record {|
+   decimal maxOffset;
+   PhaseSpreadMode mode = HASHED;
+   string? key = ();
+|};
+
+# Possible options for the `PhaseSpreadMode`. With `task:HASHED`, the offset is derived from the key, the job ID or the
+# service name, and with `task:RANDOM`, the offset is picked at random when the job is scheduled.
+public enum PhaseSpreadMode {
+  HASHED,
+  RANDOM
+}
+
 # Retry configuration for job execution.
 #
 # + maxAttempts - Maximum number of retry attempts
@@ -137,14 +191,156 @@ public type Job object {
   public function execute();
 };
 
+# A `task:Job`, which is notified of the missed triggers that are coalesced into an execution when the
+# waiting policy is `task:COALESCE` or `task:CATCH_UP`.
+public type CoalescingJob object {
+
+  *Job;
+
+  # Executes by the Scheduler before `execute` when missed triggers are coalesced into the execution.
+  #
+  # + missedFires - The number of missed triggers since the previous execution
+  public function onMissedFires(int missedFires);
+};
+
+# A Ballerina job, whose execution outcome decides the interval to its next execution. It is scheduled via the
+# `task:scheduleAdaptiveJob` function.
+public type AdaptiveJob object {
+
+  # Executes by the Scheduler when the scheduled trigger fires.
+  #
+  # + return - `true` if more work is pending, so that the job runs again at the minimum interval, `false` to back
+  #            off towards the maximum interval, or an error, which is handled as per the error policy and backs off
+  public function execute() returns boolean|error;
+};
+
+# Adaptive interval configuration of a `task:AdaptiveJob`.
+#
+# + minInterval - The interval (in seconds) used while the job reports pending work. The job starts with it
+# + maxInterval - The maximum interval (in seconds) the job backs off to while it is idle
+# + backoffFactor - The factor by which the interval is multiplied after each idle execution
+public type AdaptiveIntervalConfig record {|
+   decimal minInterval;
+   decimal maxInterval;
+   decimal backoffFactor = 2;
+|};
+
 # Policies related to a trigger.
 #
 # + errorPolicy - The policy to follow when there is an error in Job execution
 # + waitingPolicy - The policy to follow when the next task is triggering while the previous job is still
 #                   being processing
+# + maxCatchUpFires - The maximum number of missed triggers, which are replayed after a pause when the waiting
+#                     policy is `task:CATCH_UP`. The remaining missed triggers are coalesced into the next execution
+# + circuitBreaker - The circuit breaker configuration, which suspends the executions of a job after a number
+#                    of consecutive failures. If not provided, the job is executed on every trigger
+# + rateLimiterGroup - The name of the rate limiter group, which throttles the executions of the job in addition
+#                      to the global rate limiter. The group is configured via the `task:configureRateLimiter`
+#                      function
+# + workerPool - The name of the worker pool, which executes the job. The worker pool is created via the
+#                `task:createWorkerPool` function. If not provided, the job is executed by the default worker pool
+# + timeout - The maximum duration (in seconds) of an execution. An execution, which overruns it, is abandoned and
+#             reported as a `task:Error` according to the error policy, and its slot in the worker pool is released.
+#             If not provided, the executions are not time-bounded
 public type TaskPolicy record {|
    ErrorPolicy errorPolicy = LOG_AND_TERMINATE;
    WaitingPolicy waitingPolicy = WAIT;
+   int maxCatchUpFires = 1;
+   CircuitBreakerConfig? circuitBreaker = ();
+   string? rateLimiterGroup = ();
+   string? workerPool = ();
+   decimal? timeout = ();
+|};
+
+# Circuit breaker configuration for job executions.
+#
+# + failureThreshold - The number of consecutive failed executions, which opens the circuit. While the circuit
+#                      is open, the triggers are skipped without executing the job
+# + coolDownPeriod - The duration (in seconds) the circuit stays open before a single probe execution is let
+#                    through. The circuit is closed if the probe succeeds or else opened again
+public type CircuitBreakerConfig record {|
+   int failureThreshold;
+   decimal coolDownPeriod = 30;
+|};
+
+# Possible states of a job circuit breaker.
+public enum CircuitState {
+  CLOSED,
+  OPEN,
+  HALF_OPEN
+}
+
+# Rate limiter configuration for job executions.
+#
+# + permitsPerSecond - The number of job executions allowed per second
+# + burstSize - The maximum number of job executions allowed at once after an idle period
+# + throttlePolicy - The policy to follow when a trigger exceeds the allowed rate
+# + maxDelay - The maximum duration (in seconds) a throttled trigger is delayed when the throttle policy is
+#              `task:DELAY`. The triggers, which need to wait longer, are shed
+public type RateLimiterConfig record {|
+   decimal permitsPerSecond;
+   int burstSize = 1;
+   ThrottlePolicy throttlePolicy = DELAY;
+   decimal maxDelay = 5;
+|};
+
+# Possible options for the `ThrottlePolicy`.
+public enum ThrottlePolicy {
+  DELAY,
+  SHED
+}
+
+# Execution counters of a rate limiter.
+#
+# + permitted - The number of job executions allowed by the rate limiter
+# + delayed - The number of job executions delayed until a permit was available
+# + shed - The number of triggers skipped without executing the job
+public type RateLimiterStats record {|
+   int permitted;
+   int delayed;
+   int shed;
+|};
+
+# Saturation metrics of a worker pool.
+#
+# + maxConcurrentExecutions - The maximum number of concurrent executions of the worker pool. If -1, the executions
+#                             are not bounded
+# + activeExecutions - The number of job executions, which are currently running
+# + pendingExecutions - The number of job executions, which are waiting for a free slot in the worker pool
+# + completedExecutions - The number of triggers processed by the worker pool, including the skipped ones
+# + misfiredExecutions - The number of triggers skipped after waiting longer than the waiting time of the worker pool
+# + timedOutExecutions - The number of job executions abandoned after overrunning the timeout of their job
+# + abandonedExecutions - The number of abandoned job executions, which are still running in the background. A
+#                         growing value indicates that the jobs are stuck on a dependency, which ignores the timeout
+public type WorkerPoolStats record {|
+   int maxConcurrentExecutions;
+   int activeExecutions;
+   int pendingExecutions;
+   int completedExecutions;
+   int misfiredExecutions;
+   int timedOutExecutions;
+   int abandonedExecutions;
+|};
+
+# Represents the state of a scheduled job.
+#
+# + jobId - The ID of the job
+# + nextFireTime - The time (in milliseconds since the epoch) of the next fire or else `()` if none is scheduled
+# + lastFireTime - The time (in milliseconds since the epoch) of the last fire or else `()` if the job has not fired
+# + runCount - The number of times the job has fired
+# + remainingCount - The number of remaining fires or else `()` if the job runs indefinitely
+# + lastRunDuration - The duration (in seconds) of the last execution or else `()` if none has completed
+# + paused - Whether the job or the whole scheduler is paused
+# + lastError - The error message of the last execution or else `()` if it succeeded
+public type JobInfo record {|
+   JobId jobId;
+   int? nextFireTime;
+   int? lastFireTime;
+   int runCount;
+   int? remainingCount;
+   decimal? lastRunDuration;
+   boolean paused;
+   string? lastError;
 |};
 
 # Possible options for the `ErrorPolicy`.
@@ -159,7 +355,9 @@ public enum ErrorPolicy {
 public enum WaitingPolicy {
   WAIT,
   IGNORE,
-  LOG_AND_IGNORE
+  LOG_AND_IGNORE,
+  COALESCE,
+  CATCH_UP
 }
 
 # Gets time in milliseconds of the given `time:Civil`.
@@ -18,8 +18,18 @@ import ballerina/jballerina.java;
 
 isolated function init() {
     setModule();
+    setSchedulerKeepAliveTime(<int>(schedulerKeepAliveTime * <decimal>1000.0));
+    setStartupMode(startupMode, globalSchedulerWorkerCount, <int>(globalSchedulerWaitingTime * <decimal>1000.0));
 }
 
 isolated function setModule() = @java:Method {
     'class: "io.ballerina.stdlib.task.utils.ModuleUtils"
 } external;
+
+isolated function setSchedulerKeepAliveTime(int keepAliveTime) = @java:Method {
+    'class: "io.ballerina.stdlib.task.actions.TaskActions"
+} external;
+
+isolated function setStartupMode(StartupMode startupMode, int workerCount, int waitingTime) = @java:Method {
+    'class: "io.ballerina.stdlib.task.actions.TaskActions"
+} external;
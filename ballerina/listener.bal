@@ -45,6 +45,19 @@ public isolated class Listener {
         'class: "io.ballerina.stdlib.task.listener.ListenerAction"
     } external;
     
+    # Reschedules the services attached to the 'listener in place with the given trigger configuration. The
+    # services keep their run counts against the `maxCount`, and if the start time is not provided, continue from
+    # their last fires with the new interval.
+    # 
+    # + config - The new trigger configuration
+    # + return - An error if the services cannot be rescheduled
+    public isolated function reschedule(*TriggerConfiguration config) returns Error? {
+        if config.maxCount != -1 && config.maxCount < 1 {
+            return error Error("The maxCount should be a positive integer.");
+        }
+        check self.rescheduleListener(config);
+    }
+
     # Starts the 'listener.
     # 
     # + return - An error if the 'listener fails to start
@@ -52,24 +65,28 @@ public isolated class Listener {
         'class: "io.ballerina.stdlib.task.listener.ListenerAction"
     } external;
 
-    # Stops the 'listener gracefully.
+    # Stops the 'listener gracefully. No new execution is started, and the in-flight executions are awaited up to
+    # the `gracefulStopTimeout`. Then the heartbeat of the node is stopped and the coordination token is released.
     # 
-    # + return - An error if the 'listener fails to stop
+    # + return - An error if the 'listener fails to stop or the in-flight executions do not complete in time
     public isolated function gracefulStop() returns Error? = @java:Method {
         'class: "io.ballerina.stdlib.task.listener.ListenerAction"
     } external;
     
-    # Stops the 'listener immediately.
+    # Stops the 'listener immediately without waiting for the in-flight executions.
     # 
     # + return - An error if the 'listener fails to stop
     public isolated function immediateStop() returns Error? = @java:Method {
-        name: "gracefulStop",
         'class: "io.ballerina.stdlib.task.listener.ListenerAction"
     } external;
 
     isolated function initListener(ListenerConfiguration config) returns Error? = @java:Method {
         'class: "io.ballerina.stdlib.task.listener.ListenerAction"
     } external;
+
+    isolated function rescheduleListener(TriggerConfiguration config) returns Error? = @java:Method {
+        'class: "io.ballerina.stdlib.task.listener.ListenerAction"
+    } external;
 }
 
 isolated function attachService(Listener 'listener, Service s, string serviceId) returns Error? = @java:Method {
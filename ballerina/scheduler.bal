@@ -26,10 +26,51 @@ import ballerina/time;
 #                 It should be a positive integer. The recommendation is to set a value less than 10. Default sets to 5.
 # + waitingTime - The number of seconds as a decimal the scheduler will tolerate a trigger to pass its next-fire-time
 #                 before being considered as `ignored the trigger`
+# + maxConcurrentExecutions - The maximum number of job executions, which run concurrently. When it is reached, the
+#                             pending executions are started in the order of their priority. If set to -1, the
+#                             executions are not bounded
 # + return - A `task:Error` if the process failed due to any reason or else ()
-public isolated function configureWorkerPool(int workerCount = 5, time:Seconds waitingTime = 5)
+public isolated function configureWorkerPool(int workerCount = 5, time:Seconds waitingTime = 5,
+                                int maxConcurrentExecutions = -1) returns Error? {
+    return configureThread(workerCount, <int>(waitingTime * <decimal>1000.0), maxConcurrentExecutions);
+}
+
+# Creates a named worker pool, which isolates the executions of the jobs assigned to it via the `workerPool` of their
+# `task:TaskPolicy` from the other jobs.
+# ```ballerina
+# check task:createWorkerPool("batch", 2, 30);
+# ```
+#
+# + name - The name of the worker pool
+# + maxConcurrentExecutions - The maximum number of job executions, which run concurrently in the worker pool. When it
+#                             is reached, the pending executions are started in the order of their priority
+# + waitingTime - The number of seconds as a decimal a trigger can wait in the worker pool before it is skipped
+# + return - A `task:Error` if a worker pool with the same name exists or the configuration is invalid or else ()
+public isolated function createWorkerPool(string name, int maxConcurrentExecutions, time:Seconds waitingTime = 5)
                                 returns Error? {
-    return configureThread(workerCount, <int>(waitingTime * <decimal>1000.0));
+    return externCreateWorkerPool(name, maxConcurrentExecutions, <int>(waitingTime * <decimal>1000.0));
+}
+
+# Removes a named worker pool. The jobs assigned to it are executed by the default worker pool afterwards.
+# ```ballerina
+# check task:removeWorkerPool("batch");
+# ```
+#
+# + name - The name of the worker pool
+# + return - A `task:Error` if the worker pool does not exist or else ()
+public isolated function removeWorkerPool(string name) returns Error? {
+    return externRemoveWorkerPool(name);
+}
+
+# Gets the saturation metrics of a worker pool.
+# ```ballerina
+# task:WorkerPoolStats stats = check task:getWorkerPoolStats("batch");
+# ```
+#
+# + name - The name of the worker pool or else `()` to get the metrics of the default worker pool
+# + return - The `task:WorkerPoolStats` or else a `task:Error` if the worker pool does not exist
+public isolated function getWorkerPoolStats(string? name = ()) returns WorkerPoolStats|Error {
+    return externGetWorkerPoolStats(name);
 }
 
 # Schedule the given `task:Job` for the given time. Once scheduled, it will return a job ID, which can be used to manage
@@ -42,9 +83,12 @@ public isolated function configureWorkerPool(int workerCount = 5, time:Seconds w
 #
 # + triggerTime - The specific time in Ballerina `time:Civil` to trigger only one time
 # + job - Ballerina job, which is to be executed during the trigger
+# + priority - The priority of the trigger. When the scheduler is saturated, the triggers with a higher priority
+#              are executed first
 # + return - A `task:JobId` or else a `task:Error` if the process failed due to any reason
-public isolated function scheduleOneTimeJob(Job job, time:Civil triggerTime) returns JobId|Error {
-    int result = check scheduleJob(job, check getTimeInMillies(triggerTime));
+public isolated function scheduleOneTimeJob(Job job, time:Civil triggerTime, int priority = DEFAULT_PRIORITY)
+    returns JobId|Error {
+    int result = check scheduleJob(job, check getTimeInMillies(triggerTime), priority);
     JobId jobId = {id: result};
     return jobId;
 }
@@ -62,10 +106,51 @@ public isolated function scheduleOneTimeJob(Job job, time:Civil triggerTime) ret
 #               start immediately
 # + endTime - The trigger end time in Ballerina `time:Civil`
 # + taskPolicy -  The policy, which is used to handle the error and will be waiting during the trigger time
+# + priority - The priority of the trigger. When the scheduler is saturated, the triggers with a higher priority
+#              are executed first
+# + phaseSpread - The phase spread configuration, which offsets the first fire of the job so that the jobs with the
+#                 same interval and start time do not all fire at the same instant
 # + return - A `task:JobId` or else a `task:Error` if the process failed due to any reason
 public isolated function scheduleJobRecurByFrequency(Job job,  decimal interval,  int maxCount = -1,
-                                    time:Civil? startTime = (), time:Civil? endTime = (), TaskPolicy taskPolicy = {})
-    returns JobId|Error {
+                                    time:Civil? startTime = (), time:Civil? endTime = (), TaskPolicy taskPolicy = {},
+                                    int priority = DEFAULT_PRIORITY, PhaseSpreadConfig? phaseSpread = ())
+                                    returns JobId|Error {
+    if maxCount != -1 && maxCount < 1 {
+        return error Error("The maxCount should be a positive integer.");
+    }
+    int? sTime = ();
+    int? eTime = ();
+    if startTime is time:Civil {
+        sTime = check getTimeInMillies(startTime);
+    }
+    if endTime is time:Civil {
+        eTime = check getTimeInMillies(endTime);
+    }
+    int result = check scheduleIntervalJob(job, interval, maxCount, sTime, eTime, taskPolicy, priority, phaseSpread);
+    JobId jobId = {id: result};
+    return jobId;
+}
+
+# Schedule the recurring `task:AdaptiveJob`, whose interval adapts to the outcome of its executions. The job runs
+# at the minimum interval while it reports pending work and backs off towards the maximum interval while it is idle.
+# ```ballerina
+# task:JobId jobId = check task:scheduleAdaptiveJob(new Poller(), {minInterval: 1, maxInterval: 60});
+# ```
+#
+# + job - Ballerina job, which is to be executed by the scheduler
+# + interval - The adaptive interval configuration as a `task:AdaptiveIntervalConfig`
+# + maxCount - The maximum number of trigger counts. If set to -1, job will run indefinitely
+# + startTime - The trigger start time in Ballerina `time:Civil`. If it is not provided, a trigger will
+#               start immediately
+# + endTime - The trigger end time in Ballerina `time:Civil`
+# + taskPolicy -  The policy, which is used to handle the error and will be waiting during the trigger time
+# + priority - The priority of the trigger. When the scheduler is saturated, the triggers with a higher priority
+#              are executed first
+# + return - A `task:JobId` or else a `task:Error` if the process failed due to any reason
+public isolated function scheduleAdaptiveJob(AdaptiveJob job, AdaptiveIntervalConfig interval, int maxCount = -1,
+                                             time:Civil? startTime = (), time:Civil? endTime = (),
+                                             TaskPolicy taskPolicy = {}, int priority = DEFAULT_PRIORITY)
+                                             returns JobId|Error {
     if maxCount != -1 && maxCount < 1 {
         return error Error("The maxCount should be a positive integer.");
     }
@@ -77,13 +162,74 @@ public isolated function scheduleJobRecurByFrequency(Job job,  decimal interval,
     if endTime is time:Civil {
         eTime = check getTimeInMillies(endTime);
     }
-    int result = check scheduleIntervalJob(job, interval, maxCount, sTime, eTime, taskPolicy);
+    int result = check externScheduleAdaptiveJob(job, interval, maxCount, sTime, eTime, taskPolicy, priority);
     JobId jobId = {id: result};
     return jobId;
 }
 
+# Schedule the `task:Job`, which runs once all the given upstream jobs have completed successfully since its last
+# execution. The job is fired by the completion of the upstream jobs instead of a time-based trigger, so that a
+# pipeline of jobs runs without staggered intervals or polling.
+# ```ballerina
+# task:JobId loadId = check task:scheduleDependentJob(new LoadJob(), [extractId, transformId]);
+# ```
+#
+# + job - Ballerina job, which is to be executed by the scheduler
+# + upstreamJobs - The IDs of the upstream jobs. A dependent job can also be an upstream job of another dependent job
+# + taskPolicy -  The policy, which is used to handle the error and will be waiting during the trigger time
+# + priority - The priority of the trigger. When the scheduler is saturated, the triggers with a higher priority
+#              are executed first
+# + return - A `task:JobId` or else a `task:Error` if the process failed due to any reason
+public isolated function scheduleDependentJob(Job job, JobId[] upstreamJobs, TaskPolicy taskPolicy = {},
+                                              int priority = DEFAULT_PRIORITY) returns JobId|Error {
+    if upstreamJobs.length() == 0 {
+        return error Error("The upstreamJobs should not be empty.");
+    }
+    int[] upstreamJobIds = from JobId upstreamJob in upstreamJobs select upstreamJob.id;
+    int result = check externScheduleDependentJob(job, upstreamJobIds, taskPolicy, priority);
+    JobId jobId = {id: result};
+    return jobId;
+}
+
+# Reschedules a recurring `task:Job` in place, which is associated with the given job ID. The job keeps its ID and
+# its run count against the `maxCount`. If the start time is not provided, the job continues from its last fire
+# with the new interval, so that no fire is skipped or repeated. The task policy, the priority and the phase spread,
+# which are not provided, are kept from the current schedule of the job.
+# ```ballerina
+# check task:rescheduleJob(jobId, 10);
+# ```
+#
+# + jobId - The ID of the job as a `task:JobId`, which needs to be rescheduled
+# + interval - The new duration of the trigger (in seconds), which is used to run the job frequently
+# + maxCount - The maximum number of trigger counts including the ones before rescheduling. If set to -1, job will
+#              run indefinitely
+# + startTime - The new trigger start time in Ballerina `time:Civil`
+# + endTime - The new trigger end time in Ballerina `time:Civil`
+# + taskPolicy - The new policy, which is used to handle the error and will be waiting during the trigger time, or
+#                else `()` to keep the current policy
+# + priority - The new priority of the trigger or else `()` to keep the current priority
+# + phaseSpread - The new phase spread, which offsets the new start time, or else `()` to keep the current phase
+#                 spread
+# + return - A `task:Error` if the process failed due to any reason or else ()
+public isolated function rescheduleJob(JobId jobId, decimal interval, int maxCount = -1, time:Civil? startTime = (),
+                                       time:Civil? endTime = (), TaskPolicy? taskPolicy = (), int? priority = (),
+                                       PhaseSpreadConfig? phaseSpread = ()) returns Error? {
+    if maxCount != -1 && maxCount < 1 {
+        return error Error("The maxCount should be a positive integer.");
+    }
+    int? sTime = ();
+    int? eTime = ();
+    if startTime is time:Civil {
+        sTime = check getTimeInMillies(startTime);
+    }
+    if endTime is time:Civil {
+        eTime = check getTimeInMillies(endTime);
+    }
+    return externRescheduleJob(jobId.id, interval, maxCount, sTime, eTime, taskPolicy, priority, phaseSpread);
+}
+
 # Unschedule the `task:Job`, which is associated with the given job ID. If no job is running in the scheduler,
-# the scheduler will be shut down automatically.
+# the scheduler will be shut down automatically after the `task:schedulerKeepAliveTime`.
 # ```ballerina
 # check task:unscheduleJob(jobId);
 # ```
@@ -153,17 +299,154 @@ public isolated function getRunningJobs() returns JobId[] {
     return jobIds;
 }
 
-isolated function scheduleJob(Job job, int triggerTime) returns int|Error = @java:Method {
+# Gets the circuit breaker state of a particular job. A job without a circuit breaker is always `task:CLOSED`.
+# ```ballerina
+# task:CircuitState state = check task:getCircuitState(jobId);
+# ```
+#
+# + jobId - The ID of the job as a `task:JobId`
+# + return - The `task:CircuitState` of the job or else a `task:Error` if the job ID is invalid
+public isolated function getCircuitState(JobId jobId) returns CircuitState|Error {
+    return externGetCircuitState(jobId.id);
+}
+
+# Gets the state of a particular job. The state is read from the scheduler registry, which keeps it up to date as
+# the job fires, and hence this is cheap enough to be polled.
+# ```ballerina
+# task:JobInfo info = check task:getJobInfo(jobId);
+# ```
+#
+# + jobId - The ID of the job as a `task:JobId`
+# + return - The `task:JobInfo` of the job or else a `task:Error` if the job ID is invalid
+public isolated function getJobInfo(JobId jobId) returns JobInfo|Error {
+    return externGetJobInfo(jobId.id);
+}
+
+# Lists the states of all the scheduled jobs. The states are read lazily from the scheduler registry as the stream
+# is consumed, without copying the registry. Hence, a job scheduled or completed while the stream is consumed may
+# or may not be included.
+# ```ballerina
+# stream<task:JobInfo> jobs = task:listJobs();
+# ```
+#
+# + return - A stream of the `task:JobInfo` of the scheduled jobs
+public isolated function listJobs() returns stream<JobInfo> {
+    JobInfoIterator iterator = new (externListJobs());
+    return new (iterator);
+}
+
+isolated class JobInfoIterator {
+
+    private final handle iterator;
+
+    isolated function init(handle iterator) {
+        self.iterator = iterator;
+    }
+
+    public isolated function next() returns record {|JobInfo value;|}? {
+        JobInfo? jobInfo = externNextJobInfo(self.iterator);
+        return jobInfo is JobInfo ? {value: jobInfo} : ();
+    }
+}
+
+# Configures a rate limiter, which throttles the job executions across all the scheduled jobs and listeners.
+# When a group is given, only the jobs with the same `rateLimiterGroup` in their `task:TaskPolicy` are throttled
+# by it, in addition to the global rate limiter. An existing rate limiter of the group is replaced.
+# ```ballerina
+# check task:configureRateLimiter({permitsPerSecond: 10, throttlePolicy: task:SHED});
+# ```
+#
+# + config - The rate limiter configuration as a `task:RateLimiterConfig`
+# + group - The name of the rate limiter group or else `()` to configure the global rate limiter
+# + return - A `task:Error` if the configuration is invalid or else `()`
+public isolated function configureRateLimiter(RateLimiterConfig config, string? group = ()) returns Error? {
+    return externConfigureRateLimiter(config, group);
+}
+
+# Removes a rate limiter, which was configured via the `task:configureRateLimiter` function.
+# ```ballerina
+# task:removeRateLimiter();
+# ```
+#
+# + group - The name of the rate limiter group or else `()` to remove the global rate limiter
+public isolated function removeRateLimiter(string? group = ()) {
+    externRemoveRateLimiter(group);
+}
+
+# Gets the execution counters of a rate limiter.
+# ```ballerina
+# task:RateLimiterStats stats = check task:getRateLimiterStats();
+# ```
+#
+# + group - The name of the rate limiter group or else `()` to get the counters of the global rate limiter
+# + return - The `task:RateLimiterStats` or else a `task:Error` if the rate limiter is not configured
+public isolated function getRateLimiterStats(string? group = ()) returns RateLimiterStats|Error {
+    return externGetRateLimiterStats(group);
+}
+
+# Switches the scheduler to a virtual clock, which starts at the current time and only moves when it is advanced by
+# `task:advanceTime`. The jobs are not fired in real time afterwards. This is intended for testing the schedules.
+# ```ballerina
+# check task:useVirtualTime();
+# ```
+#
+# + return - A `task:Error` if the process failed due to any reason or else ()
+public isolated function useVirtualTime() returns Error? {
+    return externUseVirtualTime();
+}
+
+# Advances the virtual clock by the given duration and runs every job fire, which falls due within it, in the order
+# of the fire times. It returns after the executions of those fires are completed.
+# ```ballerina
+# check task:advanceTime(3600);
+# ```
+#
+# + duration - The number of seconds as a decimal to advance the virtual clock by
+# + return - A `task:Error` if the virtual time is not enabled or the duration is negative or else ()
+public isolated function advanceTime(time:Seconds duration) returns Error? {
+    return externAdvanceTime(duration);
+}
+
+# Switches the scheduler back to the system clock. The jobs continue from the next fire times they have reached in the
+# virtual time.
+# ```ballerina
+# check task:useSystemTime();
+# ```
+#
+# + return - A `task:Error` if the process failed due to any reason or else ()
+public isolated function useSystemTime() returns Error? {
+    return externUseSystemTime();
+}
+
+isolated function scheduleJob(Job job, int triggerTime, int priority) returns int|Error = @java:Method {
     'class: "io.ballerina.stdlib.task.actions.TaskActions"
 } external;
 
-isolated function configureThread(int workerCount, int waitingTime) returns Error? =
+isolated function configureThread(int workerCount, int waitingTime, int maxConcurrentExecutions) returns Error? =
 @java:Method {
     'class: "io.ballerina.stdlib.task.actions.TaskActions"
 } external;
 
 isolated function scheduleIntervalJob(Job job, decimal interval, int maxcount, int? startTime, int? endTime,
-TaskPolicy taskPolicy) returns int|Error = @java:Method {
+TaskPolicy taskPolicy, int priority, PhaseSpreadConfig? phaseSpread) returns int|Error = @java:Method {
+    'class: "io.ballerina.stdlib.task.actions.TaskActions"
+} external;
+
+isolated function externScheduleAdaptiveJob(AdaptiveJob job, AdaptiveIntervalConfig interval, int maxCount,
+int? startTime, int? endTime, TaskPolicy taskPolicy, int priority) returns int|Error = @java:Method {
+    name: "scheduleAdaptiveJob",
+    'class: "io.ballerina.stdlib.task.actions.TaskActions"
+} external;
+
+isolated function externScheduleDependentJob(Job job, int[] upstreamJobs, TaskPolicy taskPolicy, int priority)
+returns int|Error = @java:Method {
+    name: "scheduleDependentJob",
+    'class: "io.ballerina.stdlib.task.actions.TaskActions"
+} external;
+
+isolated function externRescheduleJob(int id, decimal interval, int maxCount, int? startTime, int? endTime,
+TaskPolicy? taskPolicy, int? priority, PhaseSpreadConfig? phaseSpread) returns Error? = @java:Method {
+    name: "rescheduleJob",
     'class: "io.ballerina.stdlib.task.actions.TaskActions"
 } external;
 
@@ -196,3 +479,70 @@ isolated function externGetRunningJobs() returns int[] = @java:Method {
     name: "getRunningJobs",
     'class: "io.ballerina.stdlib.task.actions.TaskActions"
 } external;
+
+isolated function externGetCircuitState(int id) returns CircuitState|Error = @java:Method {
+    name: "getCircuitState",
+    'class: "io.ballerina.stdlib.task.actions.TaskActions"
+} external;
+
+isolated function externGetJobInfo(int id) returns JobInfo|Error = @java:Method {
+    name: "getJobInfo",
+    'class: "io.ballerina.stdlib.task.actions.TaskActions"
+} external;
+
+isolated function externListJobs() returns handle = @java:Method {
+    name: "listJobs",
+    'class: "io.ballerina.stdlib.task.actions.TaskActions"
+} external;
+
+isolated function externNextJobInfo(handle iterator) returns JobInfo? = @java:Method {
+    name: "nextJobInfo",
+    'class: "io.ballerina.stdlib.task.actions.TaskActions"
+} external;
+
+isolated function externConfigureRateLimiter(RateLimiterConfig config, string? group) returns Error? =
+@java:Method {
+    name: "configureRateLimiter",
+    'class: "io.ballerina.stdlib.task.actions.TaskActions"
+} external;
+
+isolated function externRemoveRateLimiter(string? group) = @java:Method {
+    name: "removeRateLimiter",
+    'class: "io.ballerina.stdlib.task.actions.TaskActions"
+} external;
+
+isolated function externGetRateLimiterStats(string? group) returns RateLimiterStats|Error = @java:Method {
+    name: "getRateLimiterStats",
+    'class: "io.ballerina.stdlib.task.actions.TaskActions"
+} external;
+
+isolated function externCreateWorkerPool(string name, int maxConcurrentExecutions, int waitingTime) returns Error? =
+@java:Method {
+    name: "createWorkerPool",
+    'class: "io.ballerina.stdlib.task.actions.TaskActions"
+} external;
+
+isolated function externRemoveWorkerPool(string name) returns Error? = @java:Method {
+    name: "removeWorkerPool",
+    'class: "io.ballerina.stdlib.task.actions.TaskActions"
+} external;
+
+isolated function externGetWorkerPoolStats(string? name) returns WorkerPoolStats|Error = @java:Method {
+    name: "getWorkerPoolStats",
+    'class: "io.ballerina.stdlib.task.actions.TaskActions"
+} external;
+
+isolated function externUseVirtualTime() returns Error? = @java:Method {
+    name: "useVirtualTime",
+    'class: "io.ballerina.stdlib.task.actions.TaskActions"
+} external;
+
+isolated function externAdvanceTime(decimal duration) returns Error? = @java:Method {
+    name: "advanceTime",
+    'class: "io.ballerina.stdlib.task.actions.TaskActions"
+} external;
+
+isolated function externUseSystemTime() returns Error? = @java:Method {
+    name: "useSystemTime",
+    'class: "io.ballerina.stdlib.task.actions.TaskActions"
+} external;
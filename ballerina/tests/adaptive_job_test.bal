@@ -0,0 +1,131 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+import ballerina/lang.runtime;
+import ballerina/test;
+
+isolated int idleAdaptiveJobCount = 0;
+isolated int fixedIntervalJobCount = 0;
+isolated int busyAdaptiveJobCount = 0;
+
+isolated class IdleAdaptiveJob {
+
+    *AdaptiveJob;
+
+    public isolated function execute() returns boolean {
+        lock {
+            idleAdaptiveJobCount += 1;
+        }
+        return false;
+    }
+}
+
+isolated class FixedIntervalJob {
+
+    *Job;
+
+    public isolated function execute() {
+        lock {
+            fixedIntervalJobCount += 1;
+        }
+    }
+}
+
+isolated class BusyAdaptiveJob {
+
+    *AdaptiveJob;
+
+    public isolated function execute() returns boolean|error {
+        lock {
+            busyAdaptiveJobCount += 1;
+        }
+        return true;
+    }
+}
+
+@test:Config {
+    groups: ["AdaptiveJob"]
+}
+function testIdleAdaptiveJobBacksOff() returns error? {
+    lock {
+        idleAdaptiveJobCount = 0;
+    }
+    JobId adaptiveId = check scheduleAdaptiveJob(new IdleAdaptiveJob(), {minInterval: 0.5, maxInterval: 4});
+    JobId fixedId = check scheduleJobRecurByFrequency(new FixedIntervalJob(), 0.5);
+    runtime:sleep(6);
+    check unscheduleJob(adaptiveId);
+    check unscheduleJob(fixedId);
+    lock {
+        test:assertTrue(idleAdaptiveJobCount <= 4, msg = "Expected the idle job to back off, but fired " +
+            idleAdaptiveJobCount.toString() + " times.");
+    }
+    lock {
+        test:assertTrue(fixedIntervalJobCount >= 10, msg = "Expected the fixed interval job to keep firing.");
+    }
+}
+
+@test:Config {
+    groups: ["AdaptiveJob"]
+}
+function testBusyAdaptiveJobRunsAtMinInterval() returns error? {
+    JobId id = check scheduleAdaptiveJob(new BusyAdaptiveJob(), {minInterval: 0.5, maxInterval: 4});
+    runtime:sleep(3.2);
+    check unscheduleJob(id);
+    lock {
+        test:assertTrue(busyAdaptiveJobCount >= 6, msg = "Expected the busy job to run at the minimum interval, " +
+            "but fired " + busyAdaptiveJobCount.toString() + " times.");
+    }
+}
+
+@test:Config {
+    groups: ["AdaptiveJob"]
+}
+function testAdaptiveJobWithMaxCount() returns error? {
+    JobId id = check scheduleAdaptiveJob(new IdleAdaptiveJob(), {minInterval: 0.2, maxInterval: 0.4}, 3);
+    runtime:sleep(2);
+    test:assertTrue(getRunningJobs().indexOf(id) == (), msg = "Expected the job to complete after the maxCount.");
+}
+
+@test:Config {
+    groups: ["AdaptiveJob"]
+}
+function testAdaptiveJobWithInvalidInterval() {
+    JobId|Error result = scheduleAdaptiveJob(new IdleAdaptiveJob(), {minInterval: 0, maxInterval: 4});
+    if result is Error {
+        test:assertEquals(result.message(), "The minInterval should be a positive value.");
+    } else {
+        test:assertFail("Expected an error for a non-positive minInterval.");
+    }
+    result = scheduleAdaptiveJob(new IdleAdaptiveJob(), {minInterval: 2, maxInterval: 1});
+    if result is Error {
+        test:assertEquals(result.message(), "The maxInterval should not be less than the minInterval.");
+    } else {
+        test:assertFail("Expected an error for a maxInterval less than the minInterval.");
+    }
+    result = scheduleAdaptiveJob(new IdleAdaptiveJob(), {minInterval: 1, maxInterval: 2, backoffFactor: 0.5});
+    if result is Error {
+        test:assertEquals(result.message(), "The backoffFactor should not be less than 1.");
+    } else {
+        test:assertFail("Expected an error for a backoffFactor less than 1.");
+    }
+    result = scheduleAdaptiveJob(new IdleAdaptiveJob(), {minInterval: 1, maxInterval: 2}, 0);
+    if result is Error {
+        test:assertEquals(result.message(), "The maxCount should be a positive integer.");
+    } else {
+        test:assertFail("Expected an error for an invalid maxCount.");
+    }
+}
@@ -0,0 +1,166 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+import ballerina/lang.runtime;
+import ballerina/test;
+import ballerina/time;
+
+isolated decimal firstFireTime = -1;
+
+isolated class FirstFireJob {
+
+    *Job;
+
+    public isolated function execute() {
+        lock {
+            firstFireTime = time:monotonicNow();
+        }
+    }
+}
+
+const int CHURN_WAVES = 20;
+const int JOBS_PER_WAVE = 25;
+
+@test:Config {
+    groups: ["benchmark"]
+}
+function benchmarkScheduleUnscheduleChurn() returns error? {
+    // The scheduler is kept alive between the waves, so that the churn measures the reuse of the idle scheduler
+    setSchedulerKeepAliveTime(30000);
+    decimal startTime = time:monotonicNow();
+    foreach int wave in 0 ..< CHURN_WAVES {
+        JobId[] ids = [];
+        foreach int i in 0 ..< JOBS_PER_WAVE {
+            ids.push(check scheduleJobRecurByFrequency(new Job23(), 60));
+        }
+        foreach JobId id in ids {
+            check unscheduleJob(id);
+        }
+    }
+    decimal elapsedTime = time:monotonicNow() - startTime;
+    setSchedulerKeepAliveTime(<int>(schedulerKeepAliveTime * <decimal>1000.0));
+    decimal averageTime = elapsedTime * 1000 / <decimal>(CHURN_WAVES * JOBS_PER_WAVE);
+    println(systemOut(), java:fromString(string `Average schedule/unschedule cycle time: ${averageTime.round(3)}ms`));
+}
+
+@test:Config {
+    groups: ["benchmark"]
+}
+function benchmarkTimeToFirstFire() returns error? {
+    // The trigger time is kept ahead of the validation of the scheduled time, and the delay is measured from it
+    decimal startTime = time:monotonicNow() + 0.1;
+    _ = check scheduleOneTimeJob(new FirstFireJob(), time:utcToCivil(time:utcAddSeconds(time:utcNow(), 0.1)));
+    decimal timeToFirstFire = -1;
+    foreach int i in 0 ..< 500 {
+        lock {
+            if firstFireTime >= 0d {
+                timeToFirstFire = firstFireTime - startTime;
+            }
+        }
+        if timeToFirstFire >= 0d {
+            break;
+        }
+        runtime:sleep(0.02);
+    }
+    test:assertTrue(timeToFirstFire >= 0d, msg = "Expected the one-time job to fire.");
+    println(systemOut(), java:fromString(string `Time to the first fire: ${(timeToFirstFire * 1000).round(1)}ms`));
+}
+
+const int ONE_TIME_JOBS = 10000;
+
+@test:Config {
+    groups: ["benchmark"]
+}
+function benchmarkOneTimeJobScheduleCancel() returns error? {
+    time:Civil triggerTime = time:utcToCivil(time:utcAddSeconds(time:utcNow(), 60));
+    decimal startTime = time:monotonicNow();
+    JobId[] ids = [];
+    foreach int i in 0 ..< ONE_TIME_JOBS {
+        ids.push(check scheduleOneTimeJob(new Job23(), triggerTime));
+    }
+    map<JobId> runningJobs = map from JobId id in getRunningJobs() select [id.id.toString(), id];
+    foreach JobId id in ids {
+        check unscheduleJob(id);
+    }
+    decimal elapsedTime = time:monotonicNow() - startTime;
+    decimal throughput = <decimal>ONE_TIME_JOBS / elapsedTime;
+    foreach JobId id in ids {
+        test:assertTrue(runningJobs.hasKey(id.id.toString()), msg = string `Expected job ${id.id} to be running`);
+    }
+    foreach JobId id in getRunningJobs() {
+        test:assertFalse(ids.some(scheduledId => scheduledId.id == id.id),
+            msg = string `Expected job ${id.id} to be unscheduled`);
+    }
+    println(systemOut(), java:fromString(
+        string `One-time job schedule/unschedule throughput: ${throughput.round(0)} jobs/s`));
+}
+
+const int MEMORY_BENCHMARK_JOBS = 20000;
+
+@test:Config {
+    groups: ["benchmark"]
+}
+function benchmarkMemoryPerJob() returns error? {
+    Job23 job = new;
+    time:Civil startTime = time:utcToCivil(time:utcAddSeconds(time:utcNow(), 3600));
+    int usedMemoryBefore = getUsedMemory();
+    JobId[] ids = [];
+    foreach int i in 0 ..< MEMORY_BENCHMARK_JOBS {
+        ids.push(check scheduleJobRecurByFrequency(job, 3600, startTime = startTime));
+    }
+    int bytesPerJob = (getUsedMemory() - usedMemoryBefore) / MEMORY_BENCHMARK_JOBS;
+    foreach JobId id in ids {
+        check unscheduleJob(id);
+    }
+    println(systemOut(), java:fromString(string `Memory per recurring job: ${bytesPerJob} bytes`));
+}
+
+function getUsedMemory() returns int {
+    foreach int i in 0 ..< 3 {
+        gc();
+        runtime:sleep(0.1);
+    }
+    handle javaRuntime = getJavaRuntime();
+    return totalMemory(javaRuntime) - freeMemory(javaRuntime);
+}
+
+isolated function gc() = @java:Method {
+    'class: "java.lang.System"
+} external;
+
+isolated function getJavaRuntime() returns handle = @java:Method {
+    name: "getRuntime",
+    'class: "java.lang.Runtime"
+} external;
+
+isolated function totalMemory(handle javaRuntime) returns int = @java:Method {
+    'class: "java.lang.Runtime"
+} external;
+
+isolated function freeMemory(handle javaRuntime) returns int = @java:Method {
+    'class: "java.lang.Runtime"
+} external;
+
+isolated function systemOut() returns handle = @java:FieldGet {
+    name: "out",
+    'class: "java.lang.System"
+} external;
+
+isolated function println(handle printStream, handle message) = @java:Method {
+    'class: "java.io.PrintStream",
+    paramTypes: ["java.lang.String"]
+} external;
@@ -0,0 +1,97 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.runtime;
+import ballerina/test;
+
+int coalesceCount = 0;
+int coalescedFires = 0;
+
+class CoalesceJob {
+
+    *CoalescingJob;
+
+    public function execute() {
+        coalesceCount = coalesceCount + 1;
+    }
+
+    public function onMissedFires(int missedFires) {
+        coalescedFires = coalescedFires + missedFires;
+    }
+}
+
+int catchUpCount = 0;
+int catchUpMissedFires = 0;
+
+class CatchUpJob {
+
+    *CoalescingJob;
+
+    public function execute() {
+        catchUpCount = catchUpCount + 1;
+    }
+
+    public function onMissedFires(int missedFires) {
+        catchUpMissedFires = catchUpMissedFires + missedFires;
+    }
+}
+
+@test:Config {
+    groups: ["FrequencyJob", "CatchUp"]
+}
+function testCoalesceInWaitingPolicy() returns error? {
+    JobId id = check scheduleJobRecurByFrequency(new CoalesceJob(), 2, taskPolicy = {waitingPolicy: COALESCE});
+    runtime:sleep(3);
+    test:assertEquals(coalesceCount, 2, msg = "Expected count mismatched.");
+    // Simulates a pause of the process, which misses four triggers
+    check pauseJob(id);
+    runtime:sleep(8);
+    check resumeJob(id);
+    runtime:sleep(0.5);
+    test:assertEquals(coalesceCount, 3, msg = "Missed triggers are not coalesced into a single execution.");
+    test:assertTrue(coalescedFires >= 2, msg = "Expected missed fire count mismatched.");
+    check unscheduleJob(id);
+}
+
+@test:Config {
+    groups: ["FrequencyJob", "CatchUp"]
+}
+function testCatchUpInWaitingPolicy() returns error? {
+    JobId id = check scheduleJobRecurByFrequency(new CatchUpJob(), 2,
+        taskPolicy = {waitingPolicy: CATCH_UP, maxCatchUpFires: 1});
+    runtime:sleep(3);
+    test:assertEquals(catchUpCount, 2, msg = "Expected count mismatched.");
+    check pauseJob(id);
+    runtime:sleep(8);
+    check resumeJob(id);
+    runtime:sleep(0.5);
+    test:assertEquals(catchUpCount, 4, msg = "Expected a single replay and the latest execution.");
+    test:assertTrue(catchUpMissedFires >= 1, msg = "Expected missed fire count mismatched.");
+    check unscheduleJob(id);
+}
+
+@test:Config {
+    groups: ["FrequencyJob", "CatchUp", "negative"]
+}
+isolated function testCatchUpValidation() {
+    JobId|Error output = scheduleJobRecurByFrequency(new Job23(), 1,
+        taskPolicy = {waitingPolicy: CATCH_UP, maxCatchUpFires: -1});
+    if output is Error {
+        test:assertTrue(output.message().includes("The maxCatchUpFires should not be a negative value."));
+    } else {
+        test:assertFail("Test failed.");
+    }
+}
@@ -0,0 +1,162 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.runtime;
+import ballerina/test;
+
+int circuitBreakerCount = 0;
+
+class CircuitBreakerJob {
+
+    *Job;
+
+    public function execute() {
+        circuitBreakerCount = circuitBreakerCount + 1;
+        panic error("ERROR: Downstream service is not available.");
+    }
+}
+
+isolated int[] circuitBreakerServiceResults = [];
+
+listener Listener circuitBreakerListener = new (trigger = {
+    interval: 1,
+    maxCount: 10,
+    taskPolicy: {
+        errorPolicy: CONTINUE,
+        circuitBreaker: {
+            failureThreshold: 2,
+            coolDownPeriod: 30
+        }
+    }
+});
+
+Service circuitBreakerService = service object {
+    isolated function execute() returns error? {
+        lock {
+            circuitBreakerServiceResults.push(1);
+        }
+        return error("Downstream service is not available");
+    }
+};
+
+@test:Config {
+    groups: ["CircuitBreaker"]
+}
+function testCircuitBreakerWithJob() returns error? {
+    JobId id = check scheduleJobRecurByFrequency(new CircuitBreakerJob(), 1, taskPolicy = {
+        errorPolicy: CONTINUE,
+        circuitBreaker: {failureThreshold: 2, coolDownPeriod: 5}
+    });
+    runtime:sleep(3.5);
+    test:assertEquals(circuitBreakerCount, 2, msg = "Expected count mismatched.");
+    test:assertEquals(check getCircuitState(id), OPEN);
+    runtime:sleep(5);
+    test:assertEquals(circuitBreakerCount, 3, msg = "Expected a single probe execution after the cool-down.");
+    test:assertEquals(check getCircuitState(id), OPEN);
+    check unscheduleJob(id);
+}
+
+@test:Config {
+    groups: ["CircuitBreaker"]
+}
+function testCircuitStateWithoutCircuitBreaker() returns error? {
+    JobId id = check scheduleJobRecurByFrequency(new Job23(), 1);
+    test:assertEquals(check getCircuitState(id), CLOSED);
+    check unscheduleJob(id);
+}
+
+@test:Config {
+    groups: ["CircuitBreaker", "negative"]
+}
+isolated function testCircuitBreakerValidation() {
+    JobId|Error output = scheduleJobRecurByFrequency(new Job23(), 1,
+        taskPolicy = {circuitBreaker: {failureThreshold: 0}});
+    if output is Error {
+        test:assertTrue(output.message().includes("The failureThreshold should be a positive integer."));
+    } else {
+        test:assertFail("Test failed.");
+    }
+}
+
+@test:Config {
+    groups: ["CircuitBreaker", "listener"]
+}
+function testCircuitBreakerWithListener() returns error? {
+    check circuitBreakerListener.attach(circuitBreakerService);
+    check circuitBreakerListener.'start();
+    runtime:registerListener(circuitBreakerListener);
+    runtime:sleep(5);
+    lock {
+        test:assertEquals(circuitBreakerServiceResults.length(), 2);
+    }
+    check circuitBreakerListener.gracefulStop();
+}
+
+isolated int coordinatedBreakerExecutions = 0;
+
+isolated service class CoordinatedBreakerService {
+
+    *Service;
+
+    isolated function execute() returns error? {
+        lock {
+            coordinatedBreakerExecutions += 1;
+            if coordinatedBreakerExecutions <= 2 {
+                return error("Downstream service is not available");
+            }
+        }
+    }
+}
+
+@test:Config {
+    groups: ["CircuitBreaker", "coordination"]
+}
+function testCircuitBreakerOfStandbyNodeRecovers() returns error? {
+    Listener breakerListener = check new (trigger = {
+        interval: 1,
+        taskPolicy: {errorPolicy: CONTINUE, circuitBreaker: {failureThreshold: 2, coolDownPeriod: 2}}
+    }, warmBackupConfig = {databaseConfig: h2CoordinationConfig, taskId: "breaker-node-a", groupId: "breaker-group"});
+    Listener otherListener = check new (trigger = {interval: 1},
+        warmBackupConfig = {databaseConfig: h2CoordinationConfig, taskId: "breaker-node-b", groupId: "breaker-group"});
+    check breakerListener.attach(new CoordinatedBreakerService(), "breaker-service-a");
+    check breakerListener.'start();
+    runtime:sleep(2.5);
+    lock {
+        test:assertEquals(coordinatedBreakerExecutions, 2, msg = "Expected the circuit to open after two failures.");
+    }
+
+    // The node becomes a standby node, while the cool-down period of its open circuit elapses
+    check otherListener.attach(service object {
+        isolated function execute() {
+        }
+    }, "breaker-service-b");
+    check otherListener.'start();
+    check updateCoordinationDatabase(
+        "UPDATE token_holder SET task_id = 'breaker-node-b' WHERE group_id = 'breaker-group'");
+    runtime:sleep(3);
+    lock {
+        test:assertEquals(coordinatedBreakerExecutions, 2, msg = "Expected the standby node to stay idle.");
+    }
+
+    // The token is handed back on the stop of the other node, and the circuit is probed on the next fire
+    check otherListener.gracefulStop();
+    runtime:sleep(2.5);
+    check breakerListener.gracefulStop();
+    lock {
+        test:assertTrue(coordinatedBreakerExecutions > 3,
+            msg = string `Expected the service to run again, executions: ${coordinatedBreakerExecutions}`);
+    }
+}
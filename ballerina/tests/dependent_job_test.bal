@@ -0,0 +1,141 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+import ballerina/lang.runtime;
+import ballerina/test;
+import ballerina/time;
+
+isolated map<int> dependentJobCounts = {};
+
+isolated function incrementDependentJobCount(string name) {
+    lock {
+        dependentJobCounts[name] = (dependentJobCounts[name] ?: 0) + 1;
+    }
+}
+
+isolated function getDependentJobCount(string name) returns int {
+    lock {
+        return dependentJobCounts[name] ?: 0;
+    }
+}
+
+isolated class PipelineJob {
+
+    *Job;
+    private final string name;
+
+    public isolated function init(string name) {
+        self.name = name;
+    }
+
+    public isolated function execute() {
+        incrementDependentJobCount(self.name);
+    }
+}
+
+isolated class FailingUpstreamJob {
+
+    *Job;
+
+    public isolated function execute() {
+        panic error("Upstream failure");
+    }
+}
+
+@test:Config {
+    groups: ["DependentJob"]
+}
+function testDependentJobChain() returns error? {
+    JobId extractId = check scheduleJobRecurByFrequency(new PipelineJob("extract"), 1, 3);
+    JobId transformId = check scheduleDependentJob(new PipelineJob("transform"), [extractId]);
+    JobId loadId = check scheduleDependentJob(new PipelineJob("load"), [transformId]);
+    runtime:sleep(2.5);
+    test:assertEquals(getDependentJobCount("transform"), 3, msg = "Expected the job to run on each upstream fire.");
+    test:assertEquals(getDependentJobCount("load"), 3, msg = "Expected the chained job to run on each upstream fire.");
+    check unscheduleJob(transformId);
+    check unscheduleJob(loadId);
+}
+
+@test:Config {
+    groups: ["DependentJob"]
+}
+function testDependentJobFanIn() returns error? {
+    JobId fastId = check scheduleJobRecurByFrequency(new PipelineJob("fast"), 0.5);
+    JobId slowId = check scheduleJobRecurByFrequency(new PipelineJob("slow"), 1.5);
+    JobId fanInId = check scheduleDependentJob(new PipelineJob("fanIn"), [fastId, slowId]);
+    runtime:sleep(3.2);
+    check unscheduleJob(fastId);
+    check unscheduleJob(slowId);
+    int fanInCount = getDependentJobCount("fanIn");
+    test:assertTrue(fanInCount >= 2 && fanInCount <= getDependentJobCount("slow"),
+        msg = "Expected the job to wait for all the upstream jobs, but ran " + fanInCount.toString() + " times.");
+    check unscheduleJob(fanInId);
+}
+
+@test:Config {
+    groups: ["DependentJob"]
+}
+function testDependentJobOnOneTimeJob() returns error? {
+    time:Civil triggerTime = time:utcToCivil(time:utcAddSeconds(time:utcNow(), 1));
+    JobId oneTimeId = check scheduleOneTimeJob(new PipelineJob("oneTime"), triggerTime);
+    JobId dependentId = check scheduleDependentJob(new PipelineJob("afterOneTime"), [oneTimeId]);
+    runtime:sleep(2);
+    test:assertEquals(getDependentJobCount("afterOneTime"), 1, msg = "Expected the job to run after the one-time job.");
+    check unscheduleJob(dependentId);
+}
+
+@test:Config {
+    groups: ["DependentJob"]
+}
+function testDependentJobWithFailingUpstream() returns error? {
+    JobId upstreamId = check scheduleJobRecurByFrequency(new FailingUpstreamJob(), 0.5,
+        taskPolicy = {errorPolicy: CONTINUE});
+    JobId dependentId = check scheduleDependentJob(new PipelineJob("afterFailure"), [upstreamId]);
+    runtime:sleep(1.7);
+    check unscheduleJob(upstreamId);
+    check unscheduleJob(dependentId);
+    test:assertEquals(getDependentJobCount("afterFailure"), 0, msg = "Expected the job not to run on failures.");
+}
+
+@test:Config {
+    groups: ["DependentJob"]
+}
+function testInvalidDependentJob() returns error? {
+    JobId|Error result = scheduleDependentJob(new PipelineJob("invalid"), []);
+    if result is Error {
+        test:assertEquals(result.message(), "The upstreamJobs should not be empty.");
+    } else {
+        test:assertFail("Expected an error for empty upstream jobs.");
+    }
+    result = scheduleDependentJob(new PipelineJob("invalid"), [{id: 123456}]);
+    if result is Error {
+        test:assertEquals(result.message(), "Invalid job id: 123456");
+    } else {
+        test:assertFail("Expected an error for an invalid upstream job.");
+    }
+    JobId upstreamId = check scheduleJobRecurByFrequency(new PipelineJob("invalidUpstream"), 30);
+    JobId dependentId = check scheduleDependentJob(new PipelineJob("invalid"), [upstreamId]);
+    Error? rescheduleResult = rescheduleJob(dependentId, 1);
+    if rescheduleResult is Error {
+        test:assertEquals(rescheduleResult.message(), "The dependent job[" + dependentId.id.toString() +
+            "] cannot be rescheduled.");
+    } else {
+        test:assertFail("Expected an error when rescheduling a dependent job.");
+    }
+    check unscheduleJob(dependentId);
+    check unscheduleJob(upstreamId);
+}
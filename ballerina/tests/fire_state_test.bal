@@ -0,0 +1,140 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+import ballerina/lang.runtime;
+import ballerina/test;
+
+isolated int[] fireStateExecutionTimes = [];
+
+listener Listener fireStateActiveListener = new (trigger = {interval: 1, maxCount: 6}, warmBackupConfig = {
+    databaseConfig: h2CoordinationConfig,
+    taskId: "fire-state-node-a",
+    groupId: "fire-state-group",
+    persistFireState: true
+});
+
+listener Listener fireStateSuccessorListener = new (trigger = {interval: 1, maxCount: 6}, warmBackupConfig = {
+    databaseConfig: h2CoordinationConfig,
+    taskId: "fire-state-node-b",
+    groupId: "fire-state-group",
+    persistFireState: true
+});
+
+isolated function recordFireStateExecution() {
+    int now = currentTimeInMillis();
+    lock {
+        fireStateExecutionTimes.push(now);
+    }
+}
+
+Service fireStateActiveService = service object {
+    isolated function execute() {
+        recordFireStateExecution();
+    }
+};
+
+Service fireStateSuccessorService = service object {
+    isolated function execute() {
+        recordFireStateExecution();
+    }
+};
+
+@test:Config {
+    groups: ["coordination"]
+}
+function testFailoverContinuesScheduleOfGroup() returns error? {
+    check fireStateActiveListener.attach(fireStateActiveService, "fire-state-service");
+    check fireStateActiveListener.'start();
+    runtime:sleep(3.5);
+    check fireStateActiveListener.gracefulStop();
+    int activeExecutions;
+    int lastActiveExecution;
+    lock {
+        activeExecutions = fireStateExecutionTimes.length();
+        lastActiveExecution = fireStateExecutionTimes[activeExecutions - 1];
+    }
+    test:assertTrue(activeExecutions > 0 && activeExecutions < 6, msg = "Expected the active node to stop early.");
+
+    // The successor fires at once on start, but the fire is skipped as it is due before the next fire of the group
+    check fireStateSuccessorListener.attach(fireStateSuccessorService, "fire-state-service");
+    check fireStateSuccessorListener.'start();
+    runtime:sleep(5);
+    lock {
+        test:assertEquals(fireStateExecutionTimes.length(), 6,
+                msg = "Expected the successor to run only the remaining fires of the group.");
+        int gap = fireStateExecutionTimes[activeExecutions] - lastActiveExecution;
+        test:assertTrue(gap >= 800 && gap <= 1300, msg = string `The successor resumed ${gap} ms after the last fire.`);
+    }
+    check fireStateSuccessorListener.gracefulStop();
+}
+
+isolated int completedGroupExecutions = 0;
+
+listener Listener completedGroupActiveListener = new (trigger = {interval: 1, maxCount: 3}, warmBackupConfig = {
+    databaseConfig: h2CoordinationConfig,
+    taskId: "completed-group-node-a",
+    groupId: "completed-group",
+    persistFireState: true
+});
+
+listener Listener completedGroupSuccessorListener = new (trigger = {interval: 1, maxCount: 3}, warmBackupConfig = {
+    databaseConfig: h2CoordinationConfig,
+    taskId: "completed-group-node-b",
+    groupId: "completed-group",
+    persistFireState: true
+});
+
+isolated function recordCompletedGroupExecution() {
+    lock {
+        completedGroupExecutions += 1;
+    }
+}
+
+Service completedGroupActiveService = service object {
+    isolated function execute() {
+        recordCompletedGroupExecution();
+    }
+};
+
+Service completedGroupSuccessorService = service object {
+    isolated function execute() {
+        recordCompletedGroupExecution();
+    }
+};
+
+@test:Config {
+    groups: ["coordination"]
+}
+function testFailoverAfterGroupReachedMaxCount() returns error? {
+    check completedGroupActiveListener.attach(completedGroupActiveService, "completed-group-service");
+    check completedGroupActiveListener.'start();
+    runtime:sleep(3.5);
+    check completedGroupActiveListener.gracefulStop();
+    lock {
+        test:assertEquals(completedGroupExecutions, 3, msg = "Expected the active node to run all the fires.");
+    }
+
+    // The successor takes over a group, which has already run all its fires, so its fires are not executed
+    check completedGroupSuccessorListener.attach(completedGroupSuccessorService, "completed-group-service");
+    check completedGroupSuccessorListener.'start();
+    runtime:sleep(3);
+    lock {
+        test:assertEquals(completedGroupExecutions, 3,
+                msg = "Expected the successor not to run a fire beyond the maxCount of the group.");
+    }
+    check completedGroupSuccessorListener.gracefulStop();
+}
@@ -0,0 +1,78 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+import ballerina/lang.runtime;
+import ballerina/test;
+import ballerina/time;
+
+isolated int drainStartedExecutions = 0;
+isolated int drainCompletedExecutions = 0;
+
+listener Listener drainListener = new (trigger = {interval: 1, maxCount: 1});
+
+listener Listener drainTimeoutListener = new (trigger = {interval: 1, maxCount: 1}, gracefulStopTimeout = 0.5);
+
+Service drainService = service object {
+    isolated function execute() {
+        lock {
+            drainStartedExecutions += 1;
+        }
+        runtime:sleep(2);
+        lock {
+            drainCompletedExecutions += 1;
+        }
+    }
+};
+
+Service stuckService = service object {
+    isolated function execute() {
+        runtime:sleep(5);
+    }
+};
+
+@test:Config {
+    groups: ["listener"]
+}
+function testGracefulStopDrainsExecutions() returns error? {
+    check drainListener.attach(drainService);
+    check drainListener.'start();
+    runtime:sleep(0.5);
+    lock {
+        test:assertEquals(drainStartedExecutions, 1);
+    }
+    check drainListener.gracefulStop();
+    lock {
+        test:assertEquals(drainCompletedExecutions, 1, msg = "Expected the in-flight execution to complete.");
+    }
+}
+
+@test:Config {
+    groups: ["listener"]
+}
+function testGracefulStopTimeout() returns error? {
+    check drainTimeoutListener.attach(stuckService);
+    check drainTimeoutListener.'start();
+    runtime:sleep(0.5);
+    time:Utc stoppedAt = time:utcNow();
+    Error? result = drainTimeoutListener.gracefulStop();
+    time:Seconds stopTime = time:utcDiffSeconds(time:utcNow(), stoppedAt);
+    if result is () {
+        test:assertFail("Expected an error for the execution, which overran the graceful stop timeout.");
+    }
+    test:assertTrue(result.message().includes("did not complete within the graceful stop timeout"));
+    test:assertTrue(stopTime < 2d, msg = string `The listener took ${stopTime} seconds to stop.`);
+}
@@ -0,0 +1,165 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+import ballerina/lang.runtime;
+import ballerina/test;
+import ballerina/time;
+
+// The coordination tables are created in an in-memory H2 database, which runs in the MySQL compatibility mode
+const string H2_COORDINATION_DATABASE = "mem:task_coordination;MODE=MySQL;DB_CLOSE_DELAY=-1;" +
+    "INIT=CREATE TABLE IF NOT EXISTS token_holder (task_id VARCHAR(255) NOT NULL, " +
+    "group_id VARCHAR(255) NOT NULL PRIMARY KEY, term INT NOT NULL)\\;" +
+    "CREATE TABLE IF NOT EXISTS health_check (task_id VARCHAR(255) NOT NULL, group_id VARCHAR(36) NOT NULL, " +
+    "last_heartbeat TIMESTAMP, PRIMARY KEY (task_id, group_id))\\;" +
+    "CREATE TABLE IF NOT EXISTS fire_state (group_id VARCHAR(255) NOT NULL, job_id VARCHAR(255) NOT NULL, " +
+    "last_fire_time BIGINT, fire_count BIGINT, PRIMARY KEY (group_id, job_id))";
+
+final MysqlConfig & readonly h2CoordinationConfig = {
+    user: "sa",
+    password: "",
+    database: H2_COORDINATION_DATABASE,
+    "dbType": "h2"
+};
+
+isolated int[] activeNodeFireTimes = [];
+isolated int[] standbyNodeFireTimes = [];
+
+listener Listener handoffActiveListener = new (trigger = {interval: 1}, warmBackupConfig = {
+    databaseConfig: h2CoordinationConfig,
+    taskId: "handoff-node-a",
+    groupId: "handoff-group"
+});
+
+listener Listener handoffStandbyListener = new (trigger = {interval: 1}, warmBackupConfig = {
+    databaseConfig: h2CoordinationConfig,
+    taskId: "handoff-node-b",
+    groupId: "handoff-group"
+});
+
+Service activeNodeService = service object {
+    isolated function execute() {
+        int now = currentTimeInMillis();
+        lock {
+            activeNodeFireTimes.push(now);
+        }
+    }
+};
+
+Service standbyNodeService = service object {
+    isolated function execute() {
+        int now = currentTimeInMillis();
+        lock {
+            standbyNodeFireTimes.push(now);
+        }
+    }
+};
+
+isolated function currentTimeInMillis() returns int {
+    time:Utc now = time:utcNow();
+    return now[0] * 1000 + <int>(now[1] * 1000);
+}
+
+// Runs an update on the coordination database, so that the tests can change the state of a group directly
+isolated function updateCoordinationDatabase(string query) returns error? {
+    handle connection = check getJdbcConnection(java:fromString("jdbc:h2:" + H2_COORDINATION_DATABASE),
+        java:fromString("sa"), java:fromString(""));
+    handle statement = check createStatement(connection);
+    _ = check executeUpdate(statement, java:fromString(query));
+    check closeConnection(connection);
+}
+
+// Reads a single integer value from the coordination database
+isolated function queryCoordinationDatabase(string query) returns int|error {
+    handle connection = check getJdbcConnection(java:fromString("jdbc:h2:" + H2_COORDINATION_DATABASE),
+        java:fromString("sa"), java:fromString(""));
+    handle statement = check createStatement(connection);
+    handle result = check executeQuery(statement, java:fromString(query));
+    int value = check nextRow(result) ? check getIntValue(result, 1) : -1;
+    check closeConnection(connection);
+    return value;
+}
+
+isolated function getJdbcConnection(handle url, handle user, handle password) returns handle|error = @java:Method {
+    name: "getConnection",
+    'class: "java.sql.DriverManager",
+    paramTypes: ["java.lang.String", "java.lang.String", "java.lang.String"]
+} external;
+
+isolated function createStatement(handle connection) returns handle|error = @java:Method {
+    'class: "java.sql.Connection",
+    paramTypes: []
+} external;
+
+isolated function executeUpdate(handle statement, handle query) returns int|error = @java:Method {
+    'class: "java.sql.Statement",
+    paramTypes: ["java.lang.String"]
+} external;
+
+isolated function executeQuery(handle statement, handle query) returns handle|error = @java:Method {
+    'class: "java.sql.Statement",
+    paramTypes: ["java.lang.String"]
+} external;
+
+isolated function nextRow(handle result) returns boolean|error = @java:Method {
+    name: "next",
+    'class: "java.sql.ResultSet"
+} external;
+
+isolated function getIntValue(handle result, int columnIndex) returns int|error = @java:Method {
+    name: "getLong",
+    'class: "java.sql.ResultSet",
+    paramTypes: ["int"]
+} external;
+
+isolated function closeConnection(handle connection) returns error? = @java:Method {
+    name: "close",
+    'class: "java.sql.Connection"
+} external;
+
+@test:Config {
+    groups: ["coordination"]
+}
+function testLeadershipHandoffOnGracefulStop() returns error? {
+    check handoffActiveListener.attach(activeNodeService);
+    check handoffActiveListener.'start();
+    runtime:sleep(1);
+    check handoffStandbyListener.attach(standbyNodeService);
+    check handoffStandbyListener.'start();
+    runtime:sleep(3);
+    lock {
+        test:assertTrue(activeNodeFireTimes.length() > 0, msg = "Expected the active node to execute the service.");
+    }
+    lock {
+        test:assertEquals(standbyNodeFireTimes.length(), 0, msg = "Expected the standby node to stay idle.");
+    }
+
+    check handoffActiveListener.gracefulStop();
+    runtime:sleep(3);
+    int lastActiveFire;
+    lock {
+        lastActiveFire = activeNodeFireTimes[activeNodeFireTimes.length() - 1];
+    }
+    int firstStandbyFire;
+    lock {
+        test:assertTrue(standbyNodeFireTimes.length() > 0, msg = "Expected the standby node to take over.");
+        firstStandbyFire = standbyNodeFireTimes[0];
+    }
+    // Without the handoff, the standby node waits for the liveness check interval of 30 seconds to elapse
+    int executionGap = firstStandbyFire - lastActiveFire;
+    test:assertTrue(executionGap <= 2500, msg = string `The execution gap of the handoff was ${executionGap} ms.`);
+    check handoffStandbyListener.gracefulStop();
+}
@@ -0,0 +1,104 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+import ballerina/lang.runtime;
+import ballerina/test;
+
+class JobInfoJob {
+
+    *Job;
+
+    public function execute() {
+    }
+}
+
+class FailingJobInfoJob {
+
+    *Job;
+
+    public function execute() {
+        panic error("ERROR: Job info failure.");
+    }
+}
+
+@test:Config {
+    groups: ["JobInfo"]
+}
+function testGetJobInfo() returns error? {
+    JobId id = check scheduleJobRecurByFrequency(new JobInfoJob(), 1, maxCount = 10);
+    runtime:sleep(2.5);
+    JobInfo info = check getJobInfo(id);
+    test:assertEquals(info.jobId, id);
+    test:assertEquals(info.runCount, 3, msg = "Expected run count mismatched.");
+    test:assertEquals(info.remainingCount, 7, msg = "Expected remaining count mismatched.");
+    test:assertTrue(info.lastFireTime is int);
+    test:assertTrue(info.nextFireTime is int);
+    test:assertTrue(info.lastRunDuration is decimal);
+    test:assertFalse(info.paused);
+    test:assertEquals(info.lastError, ());
+
+    check pauseJob(id);
+    info = check getJobInfo(id);
+    test:assertTrue(info.paused);
+    check resumeJob(id);
+    info = check getJobInfo(id);
+    test:assertFalse(info.paused);
+    check unscheduleJob(id);
+}
+
+@test:Config {
+    groups: ["JobInfo"]
+}
+function testGetJobInfoWithFailure() returns error? {
+    JobId id = check scheduleJobRecurByFrequency(new FailingJobInfoJob(), 1, taskPolicy = {errorPolicy: CONTINUE});
+    runtime:sleep(1.5);
+    JobInfo info = check getJobInfo(id);
+    test:assertEquals(info.remainingCount, ());
+    string? lastError = info.lastError;
+    if lastError is () {
+        test:assertFail("Expected the error of the last execution.");
+    }
+    test:assertTrue(lastError.includes("Job info failure"));
+    check unscheduleJob(id);
+}
+
+@test:Config {
+    groups: ["JobInfo"]
+}
+function testListJobs() returns error? {
+    JobId id = check scheduleJobRecurByFrequency(new JobInfoJob(), 1);
+    boolean found = false;
+    from JobInfo info in listJobs()
+        where info.jobId == id
+        do {
+            found = true;
+        };
+    test:assertTrue(found, msg = "Expected the scheduled job in the job listing.");
+    check unscheduleJob(id);
+}
+
+@test:Config {
+    groups: ["JobInfo"]
+}
+function testGetJobInfoWithInvalidId() {
+    JobInfo|Error info = getJobInfo({id: -1});
+    if info is Error {
+        test:assertEquals(info.message(), "Invalid job id: -1");
+    } else {
+        test:assertFail("Expected an error for an invalid job ID.");
+    }
+}
@@ -0,0 +1,59 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+import ballerina/lang.runtime;
+import ballerina/test;
+
+const int STARTUP_SERVICE_COUNT = 150;
+
+isolated int startupServiceExecutions = 0;
+
+listener Listener startupListener = new (trigger = {
+    interval: 1,
+    maxCount: 1
+}, warmBackupConfig = {
+    databaseConfig: h2CoordinationConfig,
+    taskId: "startup-node",
+    groupId: "startup-group"
+});
+
+@test:Config {
+    groups: ["listener", "coordination"]
+}
+function testListenerStartupWithManyServices() returns error? {
+    foreach int i in 0 ..< STARTUP_SERVICE_COUNT {
+        Service startupService = service object {
+            isolated function execute() {
+                lock {
+                    startupServiceExecutions += 1;
+                }
+            }
+        };
+        check startupListener.attach(startupService, string `startup-service-${i}`);
+    }
+    check startupListener.'start();
+    runtime:registerListener(startupListener);
+    // The term of the token is raised on every acquisition, hence a single acquisition leaves it at 1
+    int term = check queryCoordinationDatabase(
+        "SELECT term FROM token_holder WHERE group_id = 'startup-group' AND task_id = 'startup-node'");
+    test:assertEquals(term, 1, msg = "Expected the token to be acquired once for all the services.");
+    runtime:sleep(3);
+    lock {
+        test:assertEquals(startupServiceExecutions, STARTUP_SERVICE_COUNT);
+    }
+    check startupListener.gracefulStop();
+}
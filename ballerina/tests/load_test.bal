@@ -0,0 +1,311 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+import ballerina/jballerina.java;
+import ballerina/lang.runtime;
+import ballerina/test;
+import ballerina/time;
+
+// The load tests are only run, when they are enabled by setting these values in `tests/Config.toml` for a local load
+// or soak run of the `load` group of tests. The fire lag and the misfire rate are only asserted, when their bounds are
+// set, as they depend on the hardware, which runs the tests.
+configurable boolean loadTestEnabled = false;
+configurable int loadTestJobCount = 1000;
+configurable int loadTestSlowJobCount = 100;
+configurable int loadTestListenerServiceCount = 20;
+configurable decimal loadTestInterval = 1;
+configurable decimal loadTestSlowExecutionTime = 0.5;
+configurable decimal loadTestDuration = 5;
+configurable int? loadTestMaxP99Lag = ();
+configurable float? loadTestMaxMisfireRate = ();
+
+// A fire, which is later than the default waiting time of the worker pool, is treated as a misfire by the scheduler
+const int LOAD_TEST_MISFIRE_THRESHOLD = 5000;
+
+# Tracks the fires of a job against the slots of its schedule.
+isolated class FireTracker {
+
+    private final int interval;
+    private int startTime;
+    private int nextSlot = 0;
+
+    isolated function init(int interval, int startTime = -1) {
+        self.interval = interval;
+        self.startTime = startTime;
+    }
+
+    # Resolves the slot of a fire. A fire belongs to the next slot of the schedule, unless the slots in between were
+    # skipped as misfires, in which case it belongs to the latest slot, which is due.
+    #
+    # + now - The time (in milliseconds) of the fire
+    # + return - The lag (in milliseconds) of the fire and the number of the slots skipped before it
+    isolated function onFire(int now) returns [int, int] {
+        lock {
+            if self.startTime < 0 {
+                // The first fire of a listener service marks the start of its schedule
+                self.startTime = now;
+            }
+            int slot = self.nextSlot;
+            if now - (self.startTime + slot * self.interval) > LOAD_TEST_MISFIRE_THRESHOLD {
+                slot = int:max(slot, (now - self.startTime) / self.interval);
+            }
+            int skipped = slot - self.nextSlot;
+            self.nextSlot = slot + 1;
+            return [now - (self.startTime + slot * self.interval), skipped];
+        }
+    }
+}
+
+# Aggregates the fires of a load test.
+isolated class LoadRecorder {
+
+    private int[] lags = [];
+    private int misfires = 0;
+    private final map<int> firesByNode = {};
+
+    isolated function record(int lag, int skipped, string node = "") {
+        lock {
+            self.lags.push(lag);
+            self.misfires += skipped;
+            self.firesByNode[node] = (self.firesByNode[node] ?: 0) + 1;
+        }
+    }
+
+    isolated function fires(string node = "") returns int {
+        lock {
+            return self.firesByNode[node] ?: 0;
+        }
+    }
+
+    isolated function report(string scenario, int expectedFires, decimal elapsedTime, HeapUsage heapUsage)
+            returns LoadReport {
+        int[] lags;
+        int skippedSlots;
+        lock {
+            lags = self.lags.clone();
+            skippedSlots = self.misfires;
+        }
+        int[] sortedLags = lags.sort();
+        int fires = sortedLags.length();
+        // The slots, which were due but were never fired, are counted as misfires as well
+        int misfires = int:max(skippedSlots, expectedFires - fires);
+        LoadReport loadReport = {
+            fires,
+            misfires,
+            misfireRate: expectedFires > 0 ? <float>misfires / <float>expectedFires : 0.0,
+            throughput: <decimal>fires / elapsedTime,
+            p50Lag: percentile(sortedLags, 50),
+            p90Lag: percentile(sortedLags, 90),
+            p99Lag: percentile(sortedLags, 99),
+            maxLag: fires > 0 ? sortedLags[fires - 1] : 0
+        };
+        println(systemOut(), java:fromString(string `Load test [${scenario}]: fires=${fires}, ` +
+            string `misfires=${misfires}, throughput=${loadReport.throughput.round(1)}/s, ` +
+            string `lag p50=${loadReport.p50Lag}ms p90=${loadReport.p90Lag}ms p99=${loadReport.p99Lag}ms ` +
+            string `max=${loadReport.maxLag}ms, heap before=${toMegabytes(heapUsage.before)}MB ` +
+            string `peak=${toMegabytes(heapUsage.peak)}MB after=${toMegabytes(heapUsage.after)}MB`));
+        return loadReport;
+    }
+}
+
+type LoadReport record {|
+    int fires;
+    int misfires;
+    float misfireRate;
+    decimal throughput;
+    int p50Lag;
+    int p90Lag;
+    int p99Lag;
+    int maxLag;
+|};
+
+type HeapUsage record {|
+    int before;
+    int peak;
+    int after;
+|};
+
+class LoadJob {
+
+    *Job;
+
+    private final FireTracker tracker;
+    private final LoadRecorder recorder;
+    private final decimal executionTime;
+
+    function init(FireTracker tracker, LoadRecorder recorder, decimal executionTime = 0) {
+        self.tracker = tracker;
+        self.recorder = recorder;
+        self.executionTime = executionTime;
+    }
+
+    public function execute() {
+        [int, int] [lag, skipped] = self.tracker.onFire(currentTimeInMillis());
+        self.recorder.record(lag, skipped);
+        if self.executionTime > 0d {
+            runtime:sleep(self.executionTime);
+        }
+    }
+}
+
+isolated service class LoadService {
+
+    *Service;
+
+    private final FireTracker tracker;
+    private final LoadRecorder recorder;
+    private final string node;
+
+    isolated function init(FireTracker tracker, LoadRecorder recorder, string node) {
+        self.tracker = tracker;
+        self.recorder = recorder;
+        self.node = node;
+    }
+
+    isolated function execute() {
+        [int, int] [lag, skipped] = self.tracker.onFire(currentTimeInMillis());
+        self.recorder.record(lag, skipped, self.node);
+    }
+}
+
+@test:Config {
+    groups: ["load"]
+}
+function testRecurringJobsUnderLoad() returns error? {
+    if !loadTestEnabled {
+        return;
+    }
+    assertLoadReport(check runRecurringJobLoad("recurring", loadTestJobCount, 0));
+}
+
+@test:Config {
+    groups: ["load"],
+    dependsOn: [testRecurringJobsUnderLoad]
+}
+function testSlowRecurringJobsUnderLoad() returns error? {
+    if !loadTestEnabled {
+        return;
+    }
+    assertLoadReport(check runRecurringJobLoad("slow", loadTestSlowJobCount, loadTestSlowExecutionTime));
+}
+
+@test:Config {
+    groups: ["load"],
+    dependsOn: [testSlowRecurringJobsUnderLoad]
+}
+function testCoordinatedListenersUnderLoad() returns error? {
+    if !loadTestEnabled {
+        return;
+    }
+    Listener activeListener = check new (trigger = {interval: loadTestInterval}, warmBackupConfig = {
+        databaseConfig: h2CoordinationConfig,
+        taskId: "load-node-a",
+        groupId: "load-group"
+    });
+    Listener standbyListener = check new (trigger = {interval: loadTestInterval}, warmBackupConfig = {
+        databaseConfig: h2CoordinationConfig,
+        taskId: "load-node-b",
+        groupId: "load-group"
+    });
+    LoadRecorder recorder = new;
+    int interval = <int>(loadTestInterval * 1000);
+    int usedMemoryBefore = getUsedMemory();
+    foreach int i in 0 ..< loadTestListenerServiceCount {
+        check activeListener.attach(new LoadService(new FireTracker(interval), recorder, "active"),
+            string `load-service-a-${i}`);
+        check standbyListener.attach(new LoadService(new FireTracker(interval), recorder, "standby"),
+            string `load-service-b-${i}`);
+    }
+    decimal startTime = time:monotonicNow();
+    check activeListener.'start();
+    // The standby node is started once the active node has acquired the token
+    runtime:sleep(0.5);
+    check standbyListener.'start();
+    int peakMemory = sampleUsedMemory(loadTestDuration);
+    // The expected fires are counted over the window, in which the active node has run, which leaves out the drain
+    // of the graceful stops
+    decimal elapsedTime = time:monotonicNow() - startTime;
+    check standbyListener.gracefulStop();
+    check activeListener.gracefulStop();
+    int expectedFires = loadTestListenerServiceCount * <int>(elapsedTime / loadTestInterval).floor();
+    LoadReport loadReport = recorder.report("coordinated listeners", expectedFires, elapsedTime,
+        {before: usedMemoryBefore, peak: peakMemory, after: getUsedMemory()});
+    test:assertEquals(recorder.fires("standby"), 0, msg = "Expected only the active node to execute the services.");
+    assertLoadReport(loadReport);
+}
+
+function runRecurringJobLoad(string scenario, int jobCount, decimal executionTime) returns LoadReport|error {
+    LoadRecorder recorder = new;
+    int interval = <int>(loadTestInterval * 1000);
+    // The jobs start after the scheduling is completed and their first fires are spread over an interval
+    time:Utc baseTime = time:utcAddSeconds(time:utcNow(), 2 + <decimal>jobCount / 10000);
+    int usedMemoryBefore = getUsedMemory();
+    JobId[] ids = [];
+    foreach int i in 0 ..< jobCount {
+        decimal offset = loadTestInterval * <decimal>i / <decimal>jobCount;
+        time:Civil jobStartTime = time:utcToCivil(time:utcAddSeconds(baseTime, offset));
+        FireTracker tracker = new (interval, check getTimeInMillies(jobStartTime));
+        ids.push(check scheduleJobRecurByFrequency(new LoadJob(tracker, recorder, executionTime), loadTestInterval,
+            startTime = jobStartTime));
+    }
+    runtime:sleep(time:utcDiffSeconds(baseTime, time:utcNow()));
+    decimal startTime = time:monotonicNow();
+    int peakMemory = sampleUsedMemory(loadTestDuration);
+    decimal elapsedTime = time:monotonicNow() - startTime;
+    foreach JobId id in ids {
+        check unscheduleJob(id);
+    }
+    // Every job has a slot due in each interval of the run
+    int expectedFires = jobCount * <int>(loadTestDuration / loadTestInterval).floor();
+    return recorder.report(scenario, expectedFires, elapsedTime,
+        {before: usedMemoryBefore, peak: peakMemory, after: getUsedMemory()});
+}
+
+function assertLoadReport(LoadReport loadReport) {
+    int? maxP99Lag = loadTestMaxP99Lag;
+    if maxP99Lag is int {
+        test:assertTrue(loadReport.p99Lag <= maxP99Lag, msg = string `Unexpected p99 fire lag: ${loadReport.p99Lag}ms`);
+    }
+    float? maxMisfireRate = loadTestMaxMisfireRate;
+    if maxMisfireRate is float {
+        test:assertTrue(loadReport.misfireRate <= maxMisfireRate,
+            msg = string `Unexpected misfire rate: ${loadReport.misfireRate}`);
+    }
+}
+
+// Samples the used heap without a garbage collection every 100 milliseconds for the given duration
+function sampleUsedMemory(decimal duration) returns int {
+    handle javaRuntime = getJavaRuntime();
+    int peakMemory = 0;
+    decimal endTime = time:monotonicNow() + duration;
+    while time:monotonicNow() < endTime {
+        peakMemory = int:max(peakMemory, totalMemory(javaRuntime) - freeMemory(javaRuntime));
+        runtime:sleep(0.1);
+    }
+    return peakMemory;
+}
+
+isolated function percentile(int[] sortedValues, int percentage) returns int {
+    if sortedValues.length() == 0 {
+        return 0;
+    }
+    return sortedValues[(sortedValues.length() - 1) * percentage / 100];
+}
+
+isolated function toMegabytes(int bytes) returns int {
+    return bytes / (1024 * 1024);
+}
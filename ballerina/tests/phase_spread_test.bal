@@ -0,0 +1,95 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+import ballerina/lang.runtime;
+import ballerina/test;
+import ballerina/time;
+
+const int PHASE_SPREAD_JOB_COUNT = 40;
+
+isolated int[] phaseSpreadFireTimes = [];
+
+class PhaseSpreadJob {
+
+    *Job;
+
+    public function execute() {
+        time:Utc now = time:utcNow();
+        lock {
+            phaseSpreadFireTimes.push(now[0] * 1000 + <int>(now[1] * 1000));
+        }
+    }
+}
+
+@test:Config {
+    groups: ["PhaseSpread"]
+}
+function testPhaseSpread() returns error? {
+    time:Civil startTime = time:utcToCivil(time:utcAddSeconds(time:utcNow(), 1));
+    foreach int i in 0 ..< PHASE_SPREAD_JOB_COUNT {
+        _ = check scheduleJobRecurByFrequency(new PhaseSpreadJob(), 2, maxCount = 1, startTime = startTime,
+                phaseSpread = {maxOffset: 2});
+    }
+    runtime:sleep(4);
+    int[] fireTimes;
+    lock {
+        fireTimes = phaseSpreadFireTimes.clone();
+    }
+    test:assertEquals(fireTimes.length(), PHASE_SPREAD_JOB_COUNT);
+    // Without the phase spread, all the jobs fire within a few milliseconds of the start time
+    map<int> firesPerBucket = {};
+    foreach int fireTime in fireTimes {
+        string bucket = (fireTime / 100).toString();
+        firesPerBucket[bucket] = (firesPerBucket[bucket] ?: 0) + 1;
+    }
+    int maxFiresPerBucket = int:max(0, ...firesPerBucket.toArray());
+    test:assertTrue(maxFiresPerBucket <= 10,
+            msg = string `Expected the fires to be spread, but ${maxFiresPerBucket} fired within 100 ms.`);
+    test:assertTrue(int:max(0, ...fireTimes) - int:min(int:MAX_VALUE, ...fireTimes) >= 1000,
+            msg = "Expected the fires to be spread across the interval.");
+}
+
+@test:Config {
+    groups: ["PhaseSpread"]
+}
+function testPhaseSpreadWithNegativeOffset() {
+    JobId|Error result = scheduleJobRecurByFrequency(new PhaseSpreadJob(), 1, phaseSpread = {maxOffset: -1});
+    if result is Error {
+        test:assertEquals(result.message(), "The maxOffset should not be a negative value.");
+    } else {
+        test:assertFail("Expected an error for a negative maxOffset.");
+    }
+}
+
+@test:Config {
+    groups: ["PhaseSpread"]
+}
+function testPhaseSpreadWithKey() returns error? {
+    time:Civil startTime = time:utcToCivil(time:utcAddSeconds(time:utcNow(), 60));
+    PhaseSpreadConfig phaseSpread = {maxOffset: 30, key: "phase-spread-report"};
+    JobId firstId = check scheduleJobRecurByFrequency(new PhaseSpreadJob(), 60, startTime = startTime,
+            phaseSpread = phaseSpread);
+    JobId secondId = check scheduleJobRecurByFrequency(new PhaseSpreadJob(), 60, startTime = startTime,
+            phaseSpread = phaseSpread);
+    JobInfo firstJob = check getJobInfo(firstId);
+    JobInfo secondJob = check getJobInfo(secondId);
+    check unscheduleJob(firstId);
+    check unscheduleJob(secondId);
+    test:assertTrue(firstJob.nextFireTime is int, msg = "Expected the job to have a scheduled fire.");
+    test:assertEquals(secondJob.nextFireTime, firstJob.nextFireTime,
+            msg = "Expected the jobs with the same key to get the same offset.");
+}
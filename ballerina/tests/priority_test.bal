@@ -0,0 +1,94 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.runtime;
+import ballerina/test;
+import ballerina/time;
+
+isolated int lowPriorityCount = 0;
+isolated decimal[] highPriorityLags = [];
+
+isolated class LowPriorityJob {
+
+    *Job;
+
+    public isolated function execute() {
+        lock {
+            lowPriorityCount += 1;
+        }
+        runtime:sleep(0.5);
+    }
+}
+
+isolated class HighPriorityJob {
+
+    *Job;
+    private final decimal startTime;
+    private int fireCount = 0;
+
+    isolated function init(decimal startTime) {
+        self.startTime = startTime;
+    }
+
+    public isolated function execute() {
+        decimal lag;
+        lock {
+            lag = time:monotonicNow() - self.startTime - <decimal>self.fireCount;
+            self.fireCount += 1;
+        }
+        lock {
+            highPriorityLags.push(lag);
+        }
+    }
+}
+
+@test:Config {
+    groups: ["Priority"]
+}
+function testHighPriorityJobUnderOverload() returns error? {
+    check configureWorkerPool(maxConcurrentExecutions = 1);
+    JobId[] ids = [];
+    foreach int i in 0 ..< 4 {
+        ids.push(check scheduleJobRecurByFrequency(new LowPriorityJob(), 1, priority = 1));
+    }
+    ids.push(check scheduleJobRecurByFrequency(new HighPriorityJob(time:monotonicNow()), 1, 5, priority = 10));
+    runtime:sleep(5.5);
+    foreach JobId id in ids {
+        check unscheduleJob(id);
+    }
+    check configureWorkerPool();
+    lock {
+        test:assertTrue(lowPriorityCount < 20, msg = "Expected the low priority executions to fall behind.");
+    }
+    lock {
+        test:assertEquals(highPriorityLags.length(), 5);
+        foreach decimal lag in highPriorityLags {
+            test:assertTrue(lag < 1d, msg = string `Unexpected lag of the high priority job: ${lag}`);
+        }
+    }
+}
+
+@test:Config {
+    groups: ["Priority", "negative"]
+}
+isolated function testMaxConcurrentExecutionsValidation() {
+    Error? output = configureWorkerPool(maxConcurrentExecutions = 0);
+    if output is Error {
+        test:assertEquals(output.message(), "The maxConcurrentExecutions should be a positive integer or -1.");
+    } else {
+        test:assertFail("Test failed.");
+    }
+}
@@ -0,0 +1,99 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.runtime;
+import ballerina/test;
+
+int shedCount = 0;
+int delayCount = 0;
+
+class ShedJob {
+
+    *Job;
+
+    public function execute() {
+        shedCount = shedCount + 1;
+    }
+}
+
+class DelayJob {
+
+    *Job;
+
+    public function execute() {
+        delayCount = delayCount + 1;
+    }
+}
+
+@test:Config {
+    groups: ["RateLimiter"]
+}
+function testRateLimiterWithShedPolicy() returns error? {
+    check configureRateLimiter({permitsPerSecond: 1, throttlePolicy: SHED}, "shedGroup");
+    JobId[] ids = [];
+    foreach int i in 0 ..< 4 {
+        ids.push(check scheduleJobRecurByFrequency(new ShedJob(), 1, 4, taskPolicy = {
+            rateLimiterGroup: "shedGroup"
+        }));
+    }
+    runtime:sleep(4.5);
+    foreach JobId id in ids {
+        check unscheduleJob(id);
+    }
+    RateLimiterStats stats = check getRateLimiterStats("shedGroup");
+    removeRateLimiter("shedGroup");
+    test:assertTrue(shedCount >= 3 && shedCount <= 6, msg = string `Unexpected execution count: ${shedCount}`);
+    test:assertEquals(stats.permitted, shedCount);
+    test:assertEquals(stats.delayed, 0);
+    test:assertEquals(stats.permitted + stats.shed, 16);
+}
+
+@test:Config {
+    groups: ["RateLimiter"]
+}
+function testRateLimiterWithDelayPolicy() returns error? {
+    check configureRateLimiter({permitsPerSecond: 2, throttlePolicy: DELAY, maxDelay: 10}, "delayGroup");
+    foreach int i in 0 ..< 3 {
+        _ = check scheduleJobRecurByFrequency(new DelayJob(), 1, 1, taskPolicy = {
+            rateLimiterGroup: "delayGroup"
+        });
+    }
+    runtime:sleep(0.2);
+    test:assertEquals(delayCount, 1, msg = "Expected the throttled triggers to be delayed.");
+    runtime:sleep(2);
+    RateLimiterStats stats = check getRateLimiterStats("delayGroup");
+    removeRateLimiter("delayGroup");
+    test:assertEquals(delayCount, 3, msg = "Expected all the delayed triggers to be executed.");
+    test:assertEquals(stats, {permitted: 3, delayed: 2, shed: 0});
+}
+
+@test:Config {
+    groups: ["RateLimiter", "negative"]
+}
+isolated function testRateLimiterValidation() {
+    Error? output = configureRateLimiter({permitsPerSecond: 0});
+    if output is Error {
+        test:assertTrue(output.message().includes("The permitsPerSecond should be a positive value."));
+    } else {
+        test:assertFail("Test failed.");
+    }
+    RateLimiterStats|Error stats = getRateLimiterStats("unknownGroup");
+    if stats is Error {
+        test:assertEquals(stats.message(), "Invalid rate limiter group: unknownGroup");
+    } else {
+        test:assertFail("Test failed.");
+    }
+}
@@ -0,0 +1,171 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.runtime;
+import ballerina/test;
+
+isolated int rescheduledJobCount = 0;
+
+isolated class RescheduledJob {
+
+    *Job;
+
+    public isolated function execute() {
+        lock {
+            rescheduledJobCount += 1;
+        }
+    }
+}
+
+isolated int[] rescheduledServiceResults = [];
+
+Service rescheduledService = service object {
+    isolated function execute() {
+        lock {
+            rescheduledServiceResults.push(1);
+        }
+    }
+};
+
+@test:Config {
+    groups: ["Reschedule"]
+}
+function testRescheduleJobKeepsRunCount() returns error? {
+    JobId id = check scheduleJobRecurByFrequency(new RescheduledJob(), 1, 6);
+    runtime:sleep(2.5);
+    check rescheduleJob(id, 0.5, 6);
+    test:assertTrue(getRunningJobs().indexOf(id) != (), msg = "Expected the job to keep its ID.");
+    runtime:sleep(4);
+    lock {
+        test:assertEquals(rescheduledJobCount, 6, msg = "Expected the run count to be kept across rescheduling.");
+    }
+    test:assertTrue(getRunningJobs().indexOf(id) == (), msg = "Expected the job to complete after the maxCount.");
+}
+
+@test:Config {
+    groups: ["Reschedule"],
+    dependsOn: [testRescheduleJobKeepsRunCount]
+}
+function testRescheduleJobChangesInterval() returns error? {
+    lock {
+        rescheduledJobCount = 0;
+    }
+    JobId id = check scheduleJobRecurByFrequency(new RescheduledJob(), 30);
+    runtime:sleep(0.5);
+    check rescheduleJob(id, 1);
+    runtime:sleep(3.2);
+    check unscheduleJob(id);
+    lock {
+        test:assertEquals(rescheduledJobCount, 4, msg = "Expected the job to continue with the new interval.");
+    }
+}
+
+@test:Config {
+    groups: ["Reschedule"]
+}
+function testRescheduleInvalidJob() {
+    Error? result = rescheduleJob({id: 123456}, 1);
+    if result is Error {
+        test:assertEquals(result.message(), "Invalid job id: 123456");
+    } else {
+        test:assertFail("Expected an error for an invalid job ID.");
+    }
+    result = rescheduleJob({id: 123456}, 1, 0);
+    if result is Error {
+        test:assertEquals(result.message(), "The maxCount should be a positive integer.");
+    } else {
+        test:assertFail("Expected an error for an invalid maxCount.");
+    }
+}
+
+@test:Config {
+    groups: ["Reschedule"]
+}
+function testRescheduleListener() returns error? {
+    Listener rescheduledListener = check new (trigger = {interval: 30});
+    check rescheduledListener.attach(rescheduledService);
+    check rescheduledListener.'start();
+    runtime:sleep(0.5);
+    check rescheduledListener.reschedule(interval = 1, maxCount = 3);
+    runtime:sleep(3.5);
+    lock {
+        test:assertEquals(rescheduledServiceResults.length(), 3,
+            msg = "Expected the service to continue with the new interval until the maxCount.");
+    }
+    check rescheduledListener.gracefulStop();
+}
+
+isolated int rejectedRescheduleCount = 0;
+
+Service rejectedRescheduleService = service object {
+    isolated function execute() {
+        lock {
+            rejectedRescheduleCount += 1;
+        }
+    }
+};
+
+@test:Config {
+    groups: ["Reschedule"]
+}
+function testRescheduleListenerWithInvalidConfig() returns error? {
+    Listener rejectedListener = check new (trigger = {interval: 30});
+    check rejectedListener.attach(rejectedRescheduleService);
+    Error? result = rejectedListener.reschedule(interval = 1, maxCount = 0);
+    if result is Error {
+        test:assertEquals(result.message(), "The maxCount should be a positive integer.");
+    } else {
+        test:assertFail("Expected an error for an invalid maxCount.");
+    }
+    result = rejectedListener.reschedule(interval = 1, phaseSpread = {maxOffset: -1});
+    if result is Error {
+        test:assertEquals(result.message(), "The maxOffset should not be a negative value.");
+    } else {
+        test:assertFail("Expected an error for an invalid phase spread.");
+    }
+    // The rejected configurations are not kept, so the listener starts with its initial interval
+    check rejectedListener.'start();
+    runtime:sleep(2.5);
+    lock {
+        test:assertEquals(rejectedRescheduleCount, 1, msg = "Expected the listener to keep its initial interval.");
+    }
+    check rejectedListener.gracefulStop();
+}
+
+isolated class FailingRescheduledJob {
+
+    *Job;
+
+    public isolated function execute() {
+        panic error("ERROR: Downstream service is not available.");
+    }
+}
+
+@test:Config {
+    groups: ["Reschedule"]
+}
+function testRescheduleJobKeepsPolicy() returns error? {
+    JobId id = check scheduleJobRecurByFrequency(new FailingRescheduledJob(), 0.5, taskPolicy = {
+        errorPolicy: CONTINUE,
+        circuitBreaker: {failureThreshold: 2, coolDownPeriod: 30}
+    });
+    runtime:sleep(1.5);
+    test:assertEquals(check getCircuitState(id), OPEN);
+    // Only the interval is changed, so the job keeps its circuit breaker along with its state
+    check rescheduleJob(id, 1);
+    test:assertEquals(check getCircuitState(id), OPEN, msg = "Expected the circuit breaker to survive the reschedule.");
+    check unscheduleJob(id);
+}
@@ -0,0 +1,101 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+import ballerina/lang.runtime;
+import ballerina/test;
+
+isolated int timeoutFastJobCount = 0;
+
+isolated class HangingJob {
+
+    *Job;
+
+    public isolated function execute() {
+        runtime:sleep(5);
+    }
+}
+
+isolated class TimeoutFastJob {
+
+    *Job;
+
+    public isolated function execute() {
+        lock {
+            timeoutFastJobCount += 1;
+        }
+    }
+}
+
+@test:Config {
+    groups: ["Timeout"]
+}
+function testTimeoutReleasesWorkerPoolSlot() returns error? {
+    check createWorkerPool("timeoutPool", 1);
+    JobId hangingId = check scheduleJobRecurByFrequency(new HangingJob(), 1,
+        taskPolicy = {errorPolicy: CONTINUE, workerPool: "timeoutPool", timeout: 0.3});
+    runtime:sleep(0.1);
+    JobId fastId = check scheduleJobRecurByFrequency(new TimeoutFastJob(), 1,
+        taskPolicy = {workerPool: "timeoutPool"});
+    runtime:sleep(3.2);
+    WorkerPoolStats stats = check getWorkerPoolStats("timeoutPool");
+    check unscheduleJob(hangingId);
+    check unscheduleJob(fastId);
+    test:assertTrue(stats.timedOutExecutions >= 3, msg = "Expected the overrunning executions to time out.");
+    test:assertTrue(stats.abandonedExecutions >= 1, msg = "Expected the abandoned executions to be reported.");
+    test:assertTrue(stats.activeExecutions <= 1, msg = "Expected the timed out executions to release the slot.");
+    lock {
+        test:assertTrue(timeoutFastJobCount >= 3, msg = "Expected the other job of the worker pool to keep running.");
+    }
+    check removeWorkerPool("timeoutPool");
+}
+
+@test:Config {
+    groups: ["Timeout"]
+}
+function testTimeoutOpensCircuit() returns error? {
+    JobId id = check scheduleJobRecurByFrequency(new HangingJob(), 1, taskPolicy = {
+        errorPolicy: CONTINUE,
+        timeout: 0.2,
+        circuitBreaker: {failureThreshold: 2, coolDownPeriod: 30}
+    });
+    runtime:sleep(2.5);
+    CircuitState state = check getCircuitState(id);
+    check unscheduleJob(id);
+    test:assertEquals(state, OPEN, msg = "Expected the timed out executions to count as failures.");
+}
+
+@test:Config {
+    groups: ["Timeout"]
+}
+function testTimeoutTerminatesJob() returns error? {
+    JobId id = check scheduleJobRecurByFrequency(new HangingJob(), 1,
+        taskPolicy = {errorPolicy: TERMINATE, timeout: 0.2});
+    runtime:sleep(1);
+    test:assertTrue(getRunningJobs().indexOf(id) == (), msg = "Expected the job to be terminated on the timeout.");
+}
+
+@test:Config {
+    groups: ["Timeout"]
+}
+function testInvalidTimeout() {
+    JobId|Error result = scheduleJobRecurByFrequency(new TimeoutFastJob(), 1, taskPolicy = {timeout: 0});
+    if result is Error {
+        test:assertEquals(result.message(), "The timeout should be a positive value.");
+    } else {
+        test:assertFail("Expected an error for a non-positive timeout.");
+    }
+}
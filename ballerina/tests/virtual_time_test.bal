@@ -0,0 +1,86 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+import ballerina/test;
+import ballerina/time;
+
+int hourlyCount = 0;
+int virtualOneTimeCount = 0;
+JobId? hourlyJobId = ();
+
+class HourlyJob {
+
+    *Job;
+
+    public function execute() {
+        hourlyCount = hourlyCount + 1;
+    }
+}
+
+class VirtualOneTimeJob {
+
+    *Job;
+
+    public function execute() {
+        virtualOneTimeCount = virtualOneTimeCount + 1;
+    }
+}
+
+@test:Config {
+    groups: ["VirtualTime"]
+}
+function testAdvanceTimeWithoutVirtualTime() {
+    Error? result = advanceTime(60);
+    test:assertTrue(result is Error);
+    if result is Error {
+        test:assertEquals(result.message(), "The virtual time is not enabled.");
+    }
+}
+
+@test:Config {
+    groups: ["VirtualTime"],
+    dependsOn: [testAdvanceTimeWithoutVirtualTime],
+    after: restoreSystemTime
+}
+function testVirtualTime() returns error? {
+    check useVirtualTime();
+    time:Civil triggerTime = time:utcToCivil(time:utcAddSeconds(time:utcNow(), 7200));
+    _ = check scheduleOneTimeJob(new VirtualOneTimeJob(), triggerTime);
+    hourlyJobId = check scheduleJobRecurByFrequency(new HourlyJob(), 3600);
+
+    check advanceTime(3599);
+    test:assertEquals(hourlyCount, 1);
+    test:assertEquals(virtualOneTimeCount, 0);
+    check advanceTime(3601);
+    test:assertEquals(hourlyCount, 3);
+    test:assertEquals(virtualOneTimeCount, 1);
+    Error? result = advanceTime(-1);
+    test:assertTrue(result is Error);
+
+    check advanceTime(30 * 24 * 3600 - 7200);
+    test:assertEquals(hourlyCount, 721);
+    test:assertEquals(virtualOneTimeCount, 1);
+}
+
+// The system time is restored even if the test fails, so that the scheduler is not left frozen for the other tests
+function restoreSystemTime() returns error? {
+    check useSystemTime();
+    JobId? jobId = hourlyJobId;
+    if jobId is JobId {
+        check unscheduleJob(jobId);
+    }
+}
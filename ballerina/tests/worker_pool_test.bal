@@ -0,0 +1,147 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.runtime;
+import ballerina/test;
+
+isolated int fastPoolCount = 0;
+isolated int resizeCount = 0;
+
+isolated class SlowPoolJob {
+
+    *Job;
+
+    public isolated function execute() {
+        runtime:sleep(1.5);
+    }
+}
+
+isolated class FastPoolJob {
+
+    *Job;
+
+    public isolated function execute() {
+        lock {
+            fastPoolCount += 1;
+        }
+    }
+}
+
+isolated class ResizeJob {
+
+    *Job;
+
+    public isolated function execute() {
+        lock {
+            resizeCount += 1;
+        }
+    }
+}
+
+@test:Config {
+    groups: ["WorkerPool"]
+}
+function testResizeWorkerPoolUnderLoad() returns error? {
+    JobId[] loadIds = [];
+    foreach int i in 0 ..< 5 {
+        loadIds.push(check scheduleJobRecurByFrequency(new SlowPoolJob(), 1));
+    }
+    JobId id = check scheduleJobRecurByFrequency(new ResizeJob(), 1, 6);
+    runtime:sleep(1.5);
+    check configureWorkerPool(2, 5);
+    runtime:sleep(1);
+    check configureWorkerPool(10, 7);
+    runtime:sleep(1);
+    check configureWorkerPool();
+    runtime:sleep(3);
+    foreach JobId loadId in loadIds {
+        check unscheduleJob(loadId);
+    }
+    lock {
+        test:assertEquals(resizeCount, 6, msg = "Expected no missed or duplicate triggers while resizing.");
+    }
+    test:assertTrue(getRunningJobs().indexOf(id) is (), msg = "Expected the job to be completed.");
+}
+
+@test:Config {
+    groups: ["WorkerPool"]
+}
+function testWorkerPoolIsolation() returns error? {
+    check createWorkerPool("batchPool", 1, 30);
+    check createWorkerPool("fastPool", 2);
+    JobId[] ids = [];
+    foreach int i in 0 ..< 3 {
+        ids.push(check scheduleJobRecurByFrequency(new SlowPoolJob(), 1, 3, taskPolicy = {workerPool: "batchPool"}));
+    }
+    ids.push(check scheduleJobRecurByFrequency(new FastPoolJob(), 1, 3, taskPolicy = {workerPool: "fastPool"}));
+    runtime:sleep(2.5);
+    WorkerPoolStats batchStats = check getWorkerPoolStats("batchPool");
+    foreach JobId id in ids {
+        check unscheduleJob(id);
+    }
+    lock {
+        test:assertEquals(fastPoolCount, 3, msg = "Expected the fast jobs to be isolated from the slow jobs.");
+    }
+    test:assertEquals(batchStats.maxConcurrentExecutions, 1);
+    test:assertEquals(batchStats.activeExecutions, 1);
+    test:assertTrue(batchStats.pendingExecutions > 0, msg = "Expected the batch worker pool to be saturated.");
+    WorkerPoolStats fastStats = check getWorkerPoolStats("fastPool");
+    test:assertEquals(fastStats.completedExecutions, 3);
+    check removeWorkerPool("batchPool");
+    check removeWorkerPool("fastPool");
+}
+
+@test:Config {
+    groups: ["WorkerPool"]
+}
+function testWorkerPoolMisfireThreshold() returns error? {
+    check createWorkerPool("strictPool", 1, 0.5);
+    foreach int i in 0 ..< 2 {
+        _ = check scheduleJobRecurByFrequency(new SlowPoolJob(), 1, 1, taskPolicy = {workerPool: "strictPool"});
+    }
+    runtime:sleep(2.5);
+    WorkerPoolStats stats = check getWorkerPoolStats("strictPool");
+    check removeWorkerPool("strictPool");
+    test:assertEquals(stats.misfiredExecutions, 1, msg = "Expected the queued trigger to be skipped.");
+    test:assertEquals(stats.completedExecutions, 2);
+    test:assertEquals(stats.activeExecutions, 0);
+}
+
+@test:Config {
+    groups: ["WorkerPool", "negative"]
+}
+function testWorkerPoolValidation() returns error? {
+    check createWorkerPool("duplicatePool", 1);
+    Error? output = createWorkerPool("duplicatePool", 2);
+    check removeWorkerPool("duplicatePool");
+    if output is Error {
+        test:assertEquals(output.message(), "Worker pool already exists: duplicatePool");
+    } else {
+        test:assertFail("Test failed.");
+    }
+    JobId|Error id = scheduleJobRecurByFrequency(new FastPoolJob(), 1, taskPolicy = {workerPool: "unknownPool"});
+    if id is Error {
+        test:assertEquals(id.message(), "Invalid worker pool: unknownPool");
+    } else {
+        test:assertFail("Test failed.");
+    }
+    WorkerPoolStats|Error stats = getWorkerPoolStats("unknownPool");
+    if stats is Error {
+        test:assertEquals(stats.message(), "Invalid worker pool: unknownPool");
+    } else {
+        test:assertFail("Test failed.");
+    }
+}
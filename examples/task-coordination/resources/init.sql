@@ -13,6 +13,15 @@ CREATE TABLE health_check (
     PRIMARY KEY (task_id, group_id)
 );
 
+DROP TABLE IF EXISTS fire_state;
+CREATE TABLE fire_state (
+    group_id       VARCHAR(255),
+    job_id         VARCHAR(255),
+    last_fire_time BIGINT,
+    fire_count     BIGINT,
+    PRIMARY KEY (group_id, job_id)
+);
+
 DROP TABLE IF EXISTS payments;
 CREATE TABLE payments (
     id SERIAL PRIMARY KEY,
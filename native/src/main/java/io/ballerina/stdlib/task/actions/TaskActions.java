@@ -18,23 +18,39 @@
 package io.ballerina.stdlib.task.actions;
 
 import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.Runtime;
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BHandle;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.stdlib.task.exceptions.SchedulingException;
+import io.ballerina.stdlib.task.execution.AdaptiveInterval;
+import io.ballerina.stdlib.task.execution.CircuitBreaker;
+import io.ballerina.stdlib.task.execution.ExecutionDispatcher;
+import io.ballerina.stdlib.task.execution.OneShotTimer;
+import io.ballerina.stdlib.task.execution.PhaseSpread;
+import io.ballerina.stdlib.task.execution.RateLimiter;
+import io.ballerina.stdlib.task.execution.RateLimiterRegistry;
+import io.ballerina.stdlib.task.objects.JobInfo;
+import io.ballerina.stdlib.task.objects.JobRecord;
 import io.ballerina.stdlib.task.objects.TaskManager;
+import io.ballerina.stdlib.task.utils.ModuleUtils;
 import io.ballerina.stdlib.task.utils.TaskConstants;
 import io.ballerina.stdlib.task.utils.Utils;
-import org.quartz.JobDataMap;
 import org.quartz.Scheduler;
 import org.quartz.SchedulerException;
 
 import java.io.PrintStream;
 import java.math.BigDecimal;
 import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Properties;
 import java.util.Set;
 
 import static io.ballerina.runtime.api.creators.ValueCreator.createArrayValue;
@@ -57,9 +73,11 @@ public final class TaskActions {
         Utils.disableQuartzLogs();
     }
 
-    public static Object configureThread(Environment env, long workerCount, long waitingTimeInMillis) {
+    public static Object configureThread(Environment env, long workerCount, long waitingTimeInMillis,
+                                         long maxConcurrentExecutions) {
         Utils.disableQuartzLogs();
         try {
+            ExecutionDispatcher.getInstance().setMaxConcurrentExecutions(Math.toIntExact(maxConcurrentExecutions));
             TaskManager.getInstance().initializeScheduler(Utils.createSchedulerProperties(
                     String.valueOf(workerCount), String.valueOf(waitingTimeInMillis)), env);
             return null;
@@ -68,13 +86,43 @@ public final class TaskActions {
         }
     }
 
-    public static Object scheduleJob(Environment env, BObject job, long time) {
+    public static void setSchedulerKeepAliveTime(long keepAliveTimeInMillis) {
+        TaskManager.getInstance().setKeepAliveTime(keepAliveTimeInMillis);
+    }
+
+    public static void setStartupMode(Environment env, BString startupMode, long workerCount, long waitingTime) {
+        switch (startupMode.getValue()) {
+            case TaskConstants.PREWARM -> {
+                Runtime runtime = env.getRuntime();
+                Properties properties = Utils.createSchedulerProperties(String.valueOf(workerCount),
+                        String.valueOf(waitingTime));
+                Thread.startVirtualThread(() -> TaskManager.getInstance().prewarm(properties, runtime));
+            }
+            case TaskConstants.LIGHTWEIGHT -> {
+                Thread.startVirtualThread(() -> {
+                    Utils.disableQuartzLogs();
+                    OneShotTimer.getInstance().prewarm();
+                });
+            }
+            default -> {
+                // The scheduler is created when the first job is scheduled
+            }
+        }
+    }
+
+    public static Object scheduleJob(Environment env, BObject job, long time, long priority) {
         Utils.disableQuartzLogs();
         try {
+            int timerJobId = TaskManager.getInstance().scheduleOneTimeTimer(env.getRuntime(), job, time,
+                    Math.toIntExact(priority));
+            if (timerJobId != OneShotTimer.NO_SLOT) {
+                return timerJobId;
+            }
+            // Falls back to the Quartz scheduler once all the slots of the timer are taken
             Integer jobId = getInstanceStrong().nextInt(bound);
-            JobDataMap jobDataMap = getJobDataMap(job, TaskConstants.LOG_AND_CONTINUE, String.valueOf(jobId));
             getScheduler(env);
-            TaskManager.getInstance().scheduleOneTimeJob(jobDataMap, time, jobId);
+            TaskManager.getInstance().scheduleOneTimeJob(Utils.createOneTimeJob(String.valueOf(jobId), job), time,
+                    jobId, Math.toIntExact(priority));
             return jobId;
         } catch (SchedulerException | SchedulingException | IllegalArgumentException | NoSuchAlgorithmException e) {
             return Utils.createTaskError(e.getMessage());
@@ -82,35 +130,85 @@ public final class TaskActions {
     }
 
     public static Object scheduleIntervalJob(Environment env, BObject job, BDecimal interval, long maxCount,
-                                             Object startTime, Object endTime, BMap<BString, Object> policy) {
+                                             Object startTime, Object endTime, BMap<BString, Object> policy,
+                                             long priority, Object phaseSpreadConfig) {
         Utils.disableQuartzLogs();
         try {
+            PhaseSpread phaseSpread = PhaseSpread.fromConfig(phaseSpreadConfig);
             int jobId = getInstanceStrong().nextInt(bound);
-            JobDataMap jobDataMap = getJobDataMap(job, ((BString) policy.get(TaskConstants.ERR_POLICY)).getValue(),
-                    String.valueOf(jobId));
+            JobRecord jobRecord = Utils.createJob(String.valueOf(jobId), job, policy);
+            long intervalInMillis = (interval.decimalValue().multiply(new BigDecimal(value))).longValue();
+            if (phaseSpread != null) {
+                startTime = phaseSpread.getJobStartTime(startTime, intervalInMillis, String.valueOf(jobId));
+                jobRecord.setPhaseSpread(phaseSpread);
+            }
             getScheduler(env);
-            TaskManager.getInstance().scheduleIntervalJob(jobDataMap,
-                    (interval.decimalValue().multiply(new BigDecimal(value))).longValue(), maxCount, startTime,
-                    endTime, ((BString) policy.get(TaskConstants.WAITING_POLICY)).getValue(), jobId);
+            TaskManager.getInstance().scheduleIntervalJob(jobRecord, intervalInMillis, maxCount, startTime,
+                    endTime, ((BString) policy.get(TaskConstants.WAITING_POLICY)).getValue(),
+                    Math.toIntExact(priority), jobId);
             return jobId;
         } catch (SchedulerException | SchedulingException | IllegalArgumentException | NoSuchAlgorithmException e) {
             return Utils.createTaskError(e.getMessage());
         }
     }
 
-    private static Scheduler getScheduler(Environment env) throws SchedulingException, SchedulerException {
+    public static Object scheduleAdaptiveJob(Environment env, BObject job, BMap<BString, Object> interval,
+                                             long maxCount, Object startTime, Object endTime,
+                                             BMap<BString, Object> policy, long priority) {
         Utils.disableQuartzLogs();
-        return TaskManager.getInstance().getScheduler(Utils.createSchedulerProperties(
-                TaskConstants.QUARTZ_THREAD_COUNT_VALUE, TaskConstants.QUARTZ_THRESHOLD_VALUE), env);
+        try {
+            AdaptiveInterval adaptiveInterval = AdaptiveInterval.fromConfig(interval);
+            int jobId = getInstanceStrong().nextInt(bound);
+            JobRecord jobRecord = Utils.createAdaptiveJob(String.valueOf(jobId), job, policy, adaptiveInterval);
+            getScheduler(env);
+            // The job starts at the minimum interval and the trigger is adapted after each execution
+            TaskManager.getInstance().scheduleIntervalJob(jobRecord, adaptiveInterval.getMinInterval(), maxCount,
+                    startTime, endTime, ((BString) policy.get(TaskConstants.WAITING_POLICY)).getValue(),
+                    Math.toIntExact(priority), jobId);
+            return jobId;
+        } catch (SchedulerException | SchedulingException | IllegalArgumentException | NoSuchAlgorithmException e) {
+            return Utils.createTaskError(e.getMessage());
+        }
     }
 
-    private static JobDataMap getJobDataMap(BObject job, String errorPolicy, String jobId) {
+    public static Object scheduleDependentJob(Environment env, BObject job, BArray upstreamJobs,
+                                              BMap<BString, Object> policy, long priority) {
         Utils.disableQuartzLogs();
-        JobDataMap jobDataMap = new JobDataMap();
-        jobDataMap.put(TaskConstants.JOB, job);
-        jobDataMap.put(TaskConstants.ERROR_POLICY, errorPolicy);
-        jobDataMap.put(TaskConstants.JOB_ID, jobId);
-        return jobDataMap;
+        try {
+            Set<Integer> upstreamJobIds = new HashSet<>();
+            for (long upstreamJobId : upstreamJobs.getIntArray()) {
+                upstreamJobIds.add(Math.toIntExact(upstreamJobId));
+            }
+            int jobId = getInstanceStrong().nextInt(bound);
+            JobRecord jobRecord = Utils.createJob(String.valueOf(jobId), job, policy);
+            getScheduler(env);
+            TaskManager.getInstance().scheduleDependentJob(jobRecord, upstreamJobIds, Math.toIntExact(priority),
+                    jobId);
+            return jobId;
+        } catch (SchedulerException | SchedulingException | IllegalArgumentException | NoSuchAlgorithmException e) {
+            return Utils.createTaskError(e.getMessage());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public static Object rescheduleJob(Long jobId, BDecimal interval, long maxCount, Object startTime,
+                                       Object endTime, Object policy, Object priority, Object phaseSpreadConfig) {
+        Utils.disableQuartzLogs();
+        try {
+            TaskManager.getInstance().rescheduleIntervalJob(Math.toIntExact(jobId),
+                    policy instanceof BMap ? (BMap<BString, Object>) policy : null, interval, maxCount, startTime,
+                    endTime, priority instanceof Long value ? Math.toIntExact(value) : null,
+                    PhaseSpread.fromConfig(phaseSpreadConfig));
+        } catch (SchedulerException | SchedulingException | IllegalArgumentException e) {
+            return Utils.createTaskError(e.getMessage());
+        }
+        return null;
+    }
+
+    private static Scheduler getScheduler(Environment env) throws SchedulingException, SchedulerException {
+        Utils.disableQuartzLogs();
+        return TaskManager.getInstance().getScheduler(Utils.createSchedulerProperties(
+                TaskConstants.QUARTZ_THREAD_COUNT_VALUE, TaskConstants.QUARTZ_THRESHOLD_VALUE), env);
     }
 
     public static Object unscheduleJob(Long jobId) {
@@ -143,6 +241,41 @@ public final class TaskActions {
         return null;
     }
 
+    public static Object useVirtualTime() {
+        Utils.disableQuartzLogs();
+        try {
+            TaskManager.getInstance().useVirtualTime();
+        } catch (SchedulerException e) {
+            return Utils.createTaskError(e.getMessage());
+        }
+        return null;
+    }
+
+    public static Object useSystemTime() {
+        try {
+            TaskManager.getInstance().useSystemTime();
+        } catch (SchedulerException e) {
+            return Utils.createTaskError(e.getMessage());
+        }
+        return null;
+    }
+
+    public static Object advanceTime(Environment env, BDecimal duration) {
+        BigDecimal durationInMillis = duration.decimalValue().multiply(new BigDecimal(TaskConstants.MILLIS_PER_SECOND));
+        if (durationInMillis.signum() < 0) {
+            return Utils.createTaskError("The duration should not be a negative value.");
+        }
+        // The strand yields while the fires are run, so that the jobs can be executed on their own strands
+        return env.yieldAndRun(() -> {
+            try {
+                TaskManager.getInstance().advanceTime(durationInMillis.longValue());
+            } catch (SchedulerException | SchedulingException e) {
+                return Utils.createTaskError(e.getMessage());
+            }
+            return null;
+        });
+    }
+
     public static Object pauseJob(Long jobId) {
         Utils.disableQuartzLogs();
         try {
@@ -163,6 +296,125 @@ public final class TaskActions {
         return null;
     }
 
+    public static Object getCircuitState(Long jobId) {
+        try {
+            CircuitBreaker circuitBreaker = TaskManager.getInstance().getCircuitBreaker(Math.toIntExact(jobId));
+            CircuitBreaker.State state = circuitBreaker == null ? CircuitBreaker.State.CLOSED :
+                    circuitBreaker.getState();
+            return StringUtils.fromString(state.name());
+        } catch (SchedulingException e) {
+            return Utils.createTaskError(e.getMessage());
+        }
+    }
+
+    public static Object configureRateLimiter(BMap<BString, Object> config, Object group) {
+        try {
+            RateLimiterRegistry.setRateLimiter(getRateLimiterGroup(group), RateLimiter.fromConfig(config));
+            return null;
+        } catch (IllegalArgumentException e) {
+            return Utils.createTaskError(e.getMessage());
+        }
+    }
+
+    public static void removeRateLimiter(Object group) {
+        RateLimiterRegistry.setRateLimiter(getRateLimiterGroup(group), null);
+    }
+
+    public static Object getRateLimiterStats(Object group) {
+        String groupName = getRateLimiterGroup(group);
+        RateLimiter rateLimiter = RateLimiterRegistry.getRateLimiter(groupName);
+        if (rateLimiter == null) {
+            return Utils.createTaskError(groupName == null ? "The global rate limiter is not configured." :
+                    "Invalid rate limiter group: " + groupName);
+        }
+        BMap<BString, Object> stats = ValueCreator.createRecordValue(ModuleUtils.getModule(),
+                TaskConstants.RATE_LIMITER_STATS);
+        stats.put(TaskConstants.PERMITTED, rateLimiter.getPermittedCount());
+        stats.put(TaskConstants.DELAYED, rateLimiter.getDelayedCount());
+        stats.put(TaskConstants.SHED_COUNT, rateLimiter.getShedCount());
+        return stats;
+    }
+
+    public static Object createWorkerPool(BString name, long maxConcurrentExecutions, long waitingTimeInMillis) {
+        try {
+            ExecutionDispatcher.createWorkerPool(name.getValue(), Math.toIntExact(maxConcurrentExecutions),
+                    waitingTimeInMillis);
+            return null;
+        } catch (IllegalArgumentException e) {
+            return Utils.createTaskError(e.getMessage());
+        }
+    }
+
+    public static Object removeWorkerPool(BString name) {
+        try {
+            ExecutionDispatcher.removeWorkerPool(name.getValue());
+            return null;
+        } catch (IllegalArgumentException e) {
+            return Utils.createTaskError(e.getMessage());
+        }
+    }
+
+    public static Object getWorkerPoolStats(Object name) {
+        try {
+            ExecutionDispatcher workerPool =
+                    ExecutionDispatcher.getWorkerPool(name instanceof BString poolName ? poolName.getValue() : null);
+            BMap<BString, Object> stats = ValueCreator.createRecordValue(ModuleUtils.getModule(),
+                    TaskConstants.WORKER_POOL_STATS);
+            stats.put(TaskConstants.MAX_CONCURRENT_EXECUTIONS, (long) workerPool.getMaxConcurrentExecutions());
+            stats.put(TaskConstants.ACTIVE_EXECUTIONS, (long) workerPool.getActiveExecutionCount());
+            stats.put(TaskConstants.PENDING_EXECUTIONS, (long) workerPool.getPendingExecutionCount());
+            stats.put(TaskConstants.COMPLETED_EXECUTIONS, workerPool.getCompletedExecutionCount());
+            stats.put(TaskConstants.MISFIRED_EXECUTIONS, workerPool.getMisfiredExecutionCount());
+            stats.put(TaskConstants.TIMED_OUT_EXECUTIONS, workerPool.getTimedOutExecutionCount());
+            stats.put(TaskConstants.ABANDONED_EXECUTIONS, workerPool.getAbandonedExecutionCount());
+            return stats;
+        } catch (IllegalArgumentException e) {
+            return Utils.createTaskError(e.getMessage());
+        }
+    }
+
+    public static Object getJobInfo(Long jobId) {
+        try {
+            return createJobInfo(TaskManager.getInstance().getJobInfo(Math.toIntExact(jobId)));
+        } catch (SchedulingException e) {
+            return Utils.createTaskError(e.getMessage());
+        }
+    }
+
+    public static BHandle listJobs() {
+        return ValueCreator.createHandleValue(TaskManager.getInstance().listJobs());
+    }
+
+    @SuppressWarnings("unchecked")
+    public static Object nextJobInfo(BHandle iterator) {
+        Iterator<JobInfo> jobInfos = (Iterator<JobInfo>) iterator.getValue();
+        return jobInfos.hasNext() ? createJobInfo(jobInfos.next()) : null;
+    }
+
+    private static BMap<BString, Object> createJobInfo(JobInfo jobInfo) {
+        BMap<BString, Object> info = ValueCreator.createRecordValue(ModuleUtils.getModule(), TaskConstants.JOB_INFO);
+        info.put(TaskConstants.JOB_ID_FIELD, ValueCreator.createReadonlyRecordValue(ModuleUtils.getModule(),
+                TaskConstants.JOB_ID_RECORD, Map.of(TaskConstants.ID, (long) jobInfo.jobId())));
+        info.put(TaskConstants.NEXT_FIRE_TIME, getOptionalValue(jobInfo.nextFireTime()));
+        info.put(TaskConstants.LAST_FIRE_TIME, getOptionalValue(jobInfo.lastFireTime()));
+        info.put(TaskConstants.RUN_COUNT, jobInfo.runCount());
+        info.put(TaskConstants.REMAINING_COUNT, getOptionalValue(jobInfo.remainingCount()));
+        info.put(TaskConstants.LAST_RUN_DURATION, jobInfo.lastRunDuration() == JobInfo.NONE ? null :
+                ValueCreator.createDecimalValue(BigDecimal.valueOf(jobInfo.lastRunDuration(), 9)));
+        info.put(TaskConstants.PAUSED, jobInfo.paused());
+        info.put(TaskConstants.LAST_ERROR, jobInfo.lastError() == null ? null :
+                StringUtils.fromString(jobInfo.lastError()));
+        return info;
+    }
+
+    private static Long getOptionalValue(long value) {
+        return value == JobInfo.NONE ? null : value;
+    }
+
+    private static String getRateLimiterGroup(Object group) {
+        return group instanceof BString groupName ? groupName.getValue() : null;
+    }
+
     public static BArray getRunningJobs() {
         try {
             int i = 0;
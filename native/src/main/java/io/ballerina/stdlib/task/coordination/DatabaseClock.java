@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.task.coordination;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Estimates the clock of a coordination database from the offset of the local clock against it. The offset is
+ * measured once and refreshed periodically, so that the liveness of the token holder is checked without querying
+ * the database clock on every fire.
+ *
+ * @since 2.11.1
+ */
+public final class DatabaseClock {
+    // The heartbeats are stored in TIMESTAMP columns, hence the clock is read without a time zone, so that both are
+    // mapped to the same instant in every dialect
+    public static final String LOCAL_TIMESTAMP_QUERY = "SELECT LOCALTIMESTAMP";
+    public static final long REFRESH_INTERVAL = TimeUnit.MINUTES.toNanos(1);
+
+    private static final Map<DatabaseConfig, ClockOffset> clockOffsets = new ConcurrentHashMap<>();
+
+    private DatabaseClock() { }
+
+    /**
+     * Returns the current time of the database clock. The offset of the local clock is measured on the given
+     * connection, if it has not been measured within the refresh interval.
+     *
+     * @param connection The connection of the coordination database
+     * @param dbConfig The configuration of the coordination database
+     * @return The current time (in milliseconds) of the database clock
+     */
+    public static long currentTimeMillis(Connection connection, DatabaseConfig dbConfig) throws SQLException {
+        return System.currentTimeMillis() + offsetMillis(connection, dbConfig);
+    }
+
+    /**
+     * Returns the offset of the database clock against the local clock, so that a local time is mapped to the
+     * database clock by adding it. The offset is measured on the given connection, if it has not been measured within
+     * the refresh interval.
+     *
+     * @param connection The connection of the coordination database
+     * @param dbConfig The configuration of the coordination database
+     * @return The offset (in milliseconds) of the database clock
+     */
+    public static long offsetMillis(Connection connection, DatabaseConfig dbConfig) throws SQLException {
+        ClockOffset clockOffset = clockOffsets.get(dbConfig);
+        if (clockOffset == null || System.nanoTime() - clockOffset.measuredAt() > REFRESH_INTERVAL) {
+            clockOffset = measure(connection);
+            clockOffsets.put(dbConfig, clockOffset);
+        }
+        return clockOffset.offset();
+    }
+
+    // The database time is compared with the midpoint of the round trip of the query
+    private static ClockOffset measure(Connection connection) throws SQLException {
+        try (PreparedStatement stmt = connection.prepareStatement(LOCAL_TIMESTAMP_QUERY)) {
+            long sentAt = System.currentTimeMillis();
+            ResultSet result = stmt.executeQuery();
+            long receivedAt = System.currentTimeMillis();
+            if (!result.next()) {
+                return new ClockOffset(0, System.nanoTime());
+            }
+            long offset = result.getTimestamp(1).getTime() - (sentAt + receivedAt) / 2;
+            return new ClockOffset(offset, System.nanoTime());
+        }
+    }
+
+    private record ClockOffset(long offset, long measuredAt) { }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.task.coordination;
+
+import io.ballerina.stdlib.task.objects.CoordinationState;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.ballerina.stdlib.task.coordination.TokenAcquisition.isMysqlDialect;
+
+/**
+ * Keeps the fire state of the listener services of the coordination groups, which persist it. The active node
+ * records the last completed fire time and the fire count of each service, and the state is written to the
+ * `fire_state` table along with the heartbeat of the node. The fire times are kept on the database clock, so that
+ * they are compared across the nodes regardless of the skew of their local clocks. A node, which takes over the
+ * token, continues the cadence and the fire count of the group from the persisted state instead of its own trigger.
+ *
+ * @since 2.11.1
+ */
+public final class FireStateStore {
+    public static final String GET_FIRE_STATE_QUERY = "SELECT last_fire_time, fire_count FROM fire_state " +
+            "WHERE group_id = ? AND job_id = ?";
+    public static final String POSTGRESQL_UPSERT_FIRE_STATE_QUERY =
+            "INSERT INTO fire_state(group_id, job_id, last_fire_time, fire_count) VALUES (?, ?, ?, ?) " +
+            "ON CONFLICT (group_id, job_id) DO UPDATE SET last_fire_time = EXCLUDED.last_fire_time, " +
+            "fire_count = EXCLUDED.fire_count";
+    public static final String MYSQL_UPSERT_FIRE_STATE_QUERY =
+            "INSERT INTO fire_state(group_id, job_id, last_fire_time, fire_count) VALUES (?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE last_fire_time = VALUES(last_fire_time), fire_count = VALUES(fire_count)";
+
+    private static final Map<String, Map<String, FireState>> fireStates = new ConcurrentHashMap<>();
+
+    private FireStateStore() { }
+
+    /**
+     * Resolves a fire of a listener service on the node, which holds the token. On the first fire after the node
+     * takes over the token, the fire is aligned with the persisted state of the group. A fire, which is due before
+     * the next fire of the group, is skipped as the previous active node has already run that fire. Otherwise, the
+     * fire runs in place of the fire of the group, which is due, unless the group has already reached the `maxCount`.
+     * The persisted state is ignored, if it is older than the liveness check interval, as the group has been inactive
+     * since. The fire time of the local trigger is mapped to the database clock with the cached clock offset of the
+     * node, and the time to align the trigger to is mapped back to the local clock.
+     *
+     * @param connection The connection of the coordination database
+     * @param state The coordination state of the service
+     * @param serviceId The ID of the service
+     * @param fireTime The scheduled fire time (in milliseconds) of the local trigger
+     * @param interval The interval (in milliseconds) of the service
+     * @param timesTriggered The run count of the local trigger including the fire
+     * @param repeatCount The repeat count of the local trigger or else -1 if it repeats indefinitely
+     * @return The resolved fire, whose fire time is on the database clock
+     */
+    public static FireSlot onLeaderFire(Connection connection, CoordinationState state, String serviceId,
+                                        long fireTime, long interval, int timesTriggered, int repeatCount)
+            throws SQLException {
+        FireState fireState = fireStates.computeIfAbsent(getKey(state.taskId(), state.groupId()),
+                key -> new ConcurrentHashMap<>()).computeIfAbsent(serviceId, key -> new FireState());
+        long clockOffset = DatabaseClock.offsetMillis(connection, state.databaseConfig());
+        long groupFireTime = fireTime + clockOffset;
+        synchronized (fireState) {
+            if (fireState.leading) {
+                return new FireSlot(true, groupFireTime, -1, 0);
+            }
+            boolean persisted;
+            long lastFireTime = 0;
+            long fireCount = 0;
+            try (PreparedStatement stmt = connection.prepareStatement(GET_FIRE_STATE_QUERY)) {
+                stmt.setString(1, state.groupId());
+                stmt.setString(2, serviceId);
+                ResultSet result = stmt.executeQuery();
+                persisted = result.next();
+                if (persisted) {
+                    lastFireTime = result.getLong(1);
+                    fireCount = result.getLong(2);
+                }
+            }
+            // The service is led by the node only once the persisted state is read, so that a failed read does not
+            // overwrite the state of the group with the local fire count
+            fireState.leading = true;
+            long staleTime = state.livenessCheckInterval() * 1000L + interval;
+            if (!persisted || interval <= 0 || groupFireTime - lastFireTime > staleTime) {
+                fireState.fireCount = timesTriggered - 1;
+                return new FireSlot(true, groupFireTime, -1, 0);
+            }
+            fireState.lastFireTime = lastFireTime;
+            fireState.fireCount = fireCount;
+            fireState.persistedCount = fireCount;
+            // A trigger fires `repeatCount + 1` times, so the group has run all its fires and the trigger is removed
+            // on the alignment
+            if (groupFireTime < lastFireTime + interval || (repeatCount >= 0 && fireCount > repeatCount)) {
+                return new FireSlot(false, lastFireTime, lastFireTime + interval - clockOffset, (int) fireCount);
+            }
+            long slot = lastFireTime + (groupFireTime - lastFireTime) / interval * interval;
+            return new FireSlot(true, slot, slot + interval - clockOffset, (int) fireCount + 1);
+        }
+    }
+
+    /**
+     * Marks a listener service as not led by the node, when the node fires the service without holding the token.
+     * The state is reloaded from the coordination database, when the node takes over the token again.
+     */
+    public static void onStandbyFire(CoordinationState state, String serviceId) {
+        Map<String, FireState> groupStates = fireStates.get(getKey(state.taskId(), state.groupId()));
+        FireState fireState = groupStates == null ? null : groupStates.get(serviceId);
+        if (fireState != null) {
+            synchronized (fireState) {
+                fireState.leading = false;
+            }
+        }
+    }
+
+    /**
+     * Records a completed execution of a listener service on the active node.
+     *
+     * @param state The coordination state of the service
+     * @param serviceId The ID of the service
+     * @param fireTime The fire time of the group on the database clock, which the execution has run for
+     */
+    public static void onCompletion(CoordinationState state, String serviceId, long fireTime) {
+        Map<String, FireState> groupStates = fireStates.get(getKey(state.taskId(), state.groupId()));
+        FireState fireState = groupStates == null ? null : groupStates.get(serviceId);
+        if (fireState != null) {
+            synchronized (fireState) {
+                fireState.lastFireTime = Math.max(fireState.lastFireTime, fireTime);
+                fireState.fireCount++;
+            }
+        }
+    }
+
+    /**
+     * Writes the fire states of the node, which are changed since they were last written, in the transaction of the
+     * given connection. The written states are marked as persisted once the transaction is committed.
+     *
+     * @return The written states
+     */
+    public static List<PersistedState> write(Connection connection, String taskId, String groupId, String dbType)
+            throws SQLException {
+        Map<String, FireState> groupStates = fireStates.get(getKey(taskId, groupId));
+        List<PersistedState> persistedStates = new ArrayList<>();
+        if (groupStates == null) {
+            return persistedStates;
+        }
+        for (Map.Entry<String, FireState> entry : groupStates.entrySet()) {
+            FireState fireState = entry.getValue();
+            synchronized (fireState) {
+                if (fireState.leading && fireState.lastFireTime > 0
+                        && fireState.fireCount != fireState.persistedCount) {
+                    persistedStates.add(new PersistedState(entry.getKey(), fireState.lastFireTime,
+                            fireState.fireCount));
+                }
+            }
+        }
+        if (persistedStates.isEmpty()) {
+            return persistedStates;
+        }
+        try (PreparedStatement stmt = connection.prepareStatement(isMysqlDialect(dbType)
+                ? MYSQL_UPSERT_FIRE_STATE_QUERY : POSTGRESQL_UPSERT_FIRE_STATE_QUERY)) {
+            for (PersistedState persistedState : persistedStates) {
+                stmt.setString(1, groupId);
+                stmt.setString(2, persistedState.serviceId());
+                stmt.setLong(3, persistedState.lastFireTime());
+                stmt.setLong(4, persistedState.fireCount());
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+        }
+        return persistedStates;
+    }
+
+    /**
+     * Marks the given fire states as persisted, once the transaction, which has written them, is committed.
+     */
+    public static void onPersisted(String taskId, String groupId, List<PersistedState> persistedStates) {
+        Map<String, FireState> groupStates = fireStates.get(getKey(taskId, groupId));
+        if (groupStates == null) {
+            return;
+        }
+        for (PersistedState persistedState : persistedStates) {
+            FireState fireState = groupStates.get(persistedState.serviceId());
+            if (fireState != null) {
+                synchronized (fireState) {
+                    fireState.persistedCount = persistedState.fireCount();
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the fire states of a node, once all its listeners of the group are stopped.
+     */
+    public static void clear(String taskId, String groupId) {
+        fireStates.remove(getKey(taskId, groupId));
+    }
+
+    private static String getKey(String taskId, String groupId) {
+        return taskId + ":" + groupId;
+    }
+
+    private static final class FireState {
+        private long lastFireTime;
+        private long fireCount;
+        private long persistedCount;
+        private boolean leading;
+    }
+
+    /**
+     * A fire of a listener service, which is resolved against the fire state of the group.
+     *
+     * @param execute Whether the service is executed on the fire
+     * @param fireTime The fire time of the group on the database clock, which the execution runs for
+     * @param nextFireTime The time on the local clock to move the local trigger to, or -1 if the trigger is already
+     *                     aligned
+     * @param timesTriggered The run count of the group to set on the local trigger
+     */
+    public record FireSlot(boolean execute, long fireTime, long nextFireTime, int timesTriggered) { }
+
+    /**
+     * A fire state, which is written to the coordination database.
+     */
+    public record PersistedState(String serviceId, long lastFireTime, long fireCount) { }
+}
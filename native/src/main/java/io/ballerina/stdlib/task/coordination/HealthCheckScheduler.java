@@ -17,24 +17,36 @@
  */
 package io.ballerina.stdlib.task.coordination;
 
+import io.ballerina.stdlib.task.utils.TaskMetrics;
+
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
-import static io.ballerina.stdlib.task.coordination.TokenAcquisition.DB_TYPE_MYSQL;
 import static io.ballerina.stdlib.task.coordination.TokenAcquisition.getJdbcUrl;
+import static io.ballerina.stdlib.task.coordination.TokenAcquisition.isMysqlDialect;
 
 /**
  * Scheduler for health check updates.
  */
 public final class HealthCheckScheduler {
-    private static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    // The scheduler runs on a virtual thread, so that a running health check updater does not keep the process alive
+    private static final ScheduledExecutorService scheduler =
+            Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().factory());
     private static final ExecutorService virtualThreadExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private static final Map<String, HealthCheckUpdater> healthCheckUpdaters = new ConcurrentHashMap<>();
 
     public static final String POSTGRESQL_HEALTH_CHECK_QUERY =
             "INSERT INTO health_check(task_id, group_id, last_heartbeat) VALUES (?, ?, CURRENT_TIMESTAMP) " +
@@ -47,7 +59,8 @@ public final class HealthCheckScheduler {
     private HealthCheckScheduler() { }
 
     /**
-     * Starts the health check updater to periodically update the heartbeat.
+     * Starts the health check updater to periodically update the heartbeat. A single updater runs per task ID and
+     * group, however many listeners of the group are started, until all of them are stopped.
      *
      * @param dbConfig Database configuration
      * @param tokenId Token identifier
@@ -65,12 +78,18 @@ public final class HealthCheckScheduler {
             }
             try {
                 connection.setAutoCommit(false);
-                PreparedStatement stmt = connection.prepareStatement(DB_TYPE_MYSQL.equals(dbConfig.dbType())
+                PreparedStatement stmt = connection.prepareStatement(isMysqlDialect(dbConfig.dbType())
                     ? MYSQL_HEALTH_CHECK_QUERY : POSTGRESQL_HEALTH_CHECK_QUERY);
                 stmt.setString(1, tokenId);
                 stmt.setString(2, groupId);
+                long startTime = System.nanoTime();
                 stmt.executeUpdate();
+                // The fire states of the services are written in the same transaction as the heartbeat
+                List<FireStateStore.PersistedState> persistedStates = FireStateStore.write(connection, tokenId,
+                        groupId, dbConfig.dbType());
                 connection.commit();
+                FireStateStore.onPersisted(tokenId, groupId, persistedStates);
+                TaskMetrics.onHeartbeat(System.nanoTime() - startTime);
             } catch (SQLException e) {
                 try {
                     connection.rollback();
@@ -81,10 +100,55 @@ public final class HealthCheckScheduler {
                 closeConnection(connection);
             }
         };
-        scheduler.scheduleAtFixedRate(
-                () -> virtualThreadExecutor.submit(task),
-                0, periodInSeconds, TimeUnit.SECONDS
-        );
+        healthCheckUpdaters.compute(getKey(tokenId, groupId), (key, updater) -> {
+            if (updater != null) {
+                updater.listeners++;
+                return updater;
+            }
+            HealthCheckUpdater healthCheckUpdater = new HealthCheckUpdater();
+            healthCheckUpdater.schedule = scheduler.scheduleAtFixedRate(
+                    () -> healthCheckUpdater.lastHeartbeat = virtualThreadExecutor.submit(task),
+                    0, periodInSeconds, TimeUnit.SECONDS
+            );
+            return healthCheckUpdater;
+        });
+    }
+
+    /**
+     * Stops the health check updater of a stopped listener. Once the last listener of the group is stopped, the
+     * updater is cancelled and the heartbeat, which is being written, is awaited.
+     *
+     * @param tokenId Token identifier
+     * @param groupId Group identifier
+     * @param timeout The maximum time (in milliseconds) to wait for the heartbeat being written
+     * @return true if the updater is stopped, false if other listeners of the group are still running
+     */
+    public static boolean stopHealthCheckUpdater(String tokenId, String groupId, long timeout) {
+        HealthCheckUpdater[] stopped = new HealthCheckUpdater[1];
+        healthCheckUpdaters.computeIfPresent(getKey(tokenId, groupId), (key, updater) -> {
+            if (--updater.listeners > 0) {
+                return updater;
+            }
+            updater.schedule.cancel(false);
+            stopped[0] = updater;
+            return null;
+        });
+        if (stopped[0] == null) {
+            return false;
+        }
+        Future<?> lastHeartbeat = stopped[0].lastHeartbeat;
+        if (lastHeartbeat != null) {
+            try {
+                lastHeartbeat.get(timeout, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException | TimeoutException ignored) { }
+        }
+        return true;
+    }
+
+    private static String getKey(String tokenId, String groupId) {
+        return tokenId + ":" + groupId;
     }
 
 
@@ -96,6 +160,12 @@ public final class HealthCheckScheduler {
         }
     }
 
+    private static final class HealthCheckUpdater {
+        private ScheduledFuture<?> schedule;
+        private volatile Future<?> lastHeartbeat;
+        private int listeners = 1;
+    }
+
     public static void shutdown() {
         scheduler.shutdown();
         try {
@@ -23,6 +23,7 @@ import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.task.utils.TaskMetrics;
 import io.ballerina.stdlib.task.utils.Utils;
 
 import java.sql.Connection;
@@ -31,7 +32,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
-import java.time.Instant;
+import java.util.List;
 
 import static io.ballerina.stdlib.task.server.TaskServerJob.handleRollback;
 
@@ -54,17 +55,25 @@ public final class TokenAcquisition {
     public static final BString TOKEN_HOLDER = StringUtils.fromString("tokenholder");
     public static final BString HEARTBEAT_FREQUENCY = StringUtils.fromString("heartbeatFrequency");
     public static final BString LIVENESS_CHECK_INTERVAL = StringUtils.fromString("livenessCheckInterval");
+    public static final BString PERSIST_FIRE_STATE = StringUtils.fromString("persistFireState");
     public static final String LAST_HEARTBEAT = "last_heartbeat";
     public static final String ID = "task_id";
 
     public static final String DB_TYPE_POSTGRESQL = "postgresql";
     public static final String DB_TYPE_MYSQL = "mysql";
+    public static final String DB_TYPE_H2 = "h2";
     public static final String POSTGRESQL_JDBC_URL = "jdbc:postgresql://%s:%d/%s";
     public static final String MYSQL_JDBC_URL = "jdbc:mysql://%s:%d/%s";
+    public static final String H2_JDBC_URL = "jdbc:h2:%s";
     public static final String HAS_ACTIVE_TOKEN_QUERY = "SELECT task_id FROM token_holder " +
             "WHERE task_id = ? AND group_id = ?";
-    public static final String GET_CURRENT_TOKEN_QUERY = "SELECT task_id FROM token_holder WHERE group_id = ?";
-    public static final String CURRENT_TIMESTAMP_QUERY = "SELECT CURRENT_TIMESTAMP";
+    public static final String GET_CURRENT_TOKEN_QUERY = "SELECT t.task_id, h.last_heartbeat FROM token_holder t " +
+            "LEFT JOIN health_check h ON h.task_id = t.task_id AND h.group_id = t.group_id WHERE t.group_id = ?";
+    public static final String RELEASE_TOKEN_QUERY = "DELETE FROM token_holder WHERE task_id = ? AND group_id = ?";
+    public static final String HAND_OVER_TOKEN_QUERY = "UPDATE token_holder SET task_id = ?, term = term + 1 " +
+            "WHERE task_id = ? AND group_id = ?";
+    public static final String LATEST_STANDBY_QUERY = "SELECT task_id, last_heartbeat FROM health_check " +
+            "WHERE group_id = ? AND task_id <> ? ORDER BY last_heartbeat DESC LIMIT 1";
     public static final String HEALTH_CHECK_QUERY = "SELECT last_heartbeat FROM health_check WHERE task_id = ? " +
             "AND group_id = ? ORDER BY last_heartbeat DESC LIMIT 1";
 
@@ -84,7 +93,7 @@ public final class TokenAcquisition {
      */
     public static Object acquireToken(BMap<Object, Object> databaseConfig,
                                       BString id, BString groupId, boolean tokenAcquired, int livenessInterval,
-                                      int heartbeatFrequency) throws SQLException {
+                                      int heartbeatFrequency, boolean persistFireState) throws SQLException {
         String dbType = TypeUtils.getType(databaseConfig).getName().contains(POSTGRESQL_CONFIG)
                 ? DB_TYPE_POSTGRESQL : DB_TYPE_MYSQL;
         if (databaseConfig.containsKey(DB_TYPE)) {
@@ -102,27 +111,112 @@ public final class TokenAcquisition {
             connection = DriverManager.getConnection(jdbcUrl, dbConfig.user(), dbConfig.password());
             connection.setAutoCommit(false);
             tokenAcquired = attemptTokenAcquisition(connection, instanceId, groupId.getValue(),
-                    tokenAcquired, livenessInterval, dbType);
+                    tokenAcquired, livenessInterval, dbConfig);
             connection.commit();
+            TaskMetrics.setTokenHolder(groupId.getValue(), tokenAcquired);
             HealthCheckScheduler.startHealthCheckUpdater(dbConfig, instanceId, groupId.getValue(), heartbeatFrequency);
-            return generateResponse(tokenAcquired, livenessInterval, instanceId, groupId.getValue(), dbConfig);
+            return generateResponse(tokenAcquired, livenessInterval, instanceId, groupId.getValue(), dbConfig,
+                    persistFireState);
         } catch (Exception e) {
             handleRollback(connection);
             throw Utils.createTaskError(e.getMessage());
         }
     }
 
+    /**
+     * Releases the token of the group, if it is held by the given node, so that a standby node takes over on its
+     * next fire without waiting for the liveness check interval to elapse. The token is handed over to the standby
+     * node with the latest heartbeat, if that heartbeat is within the liveness check interval of the last heartbeat
+     * of the given node. Otherwise, the token is removed, so that the first standby node to fire acquires it. The
+     * fire states of the services, which are not yet persisted, are written in the same transaction.
+     *
+     * @return true if the token was held by the node and is released
+     */
+    public static boolean releaseToken(DatabaseConfig dbConfig, String taskId, String groupId, int livenessInterval)
+            throws SQLException {
+        Connection connection = null;
+        try {
+            connection = DriverManager.getConnection(getJdbcUrl(dbConfig), dbConfig.user(), dbConfig.password());
+            connection.setAutoCommit(false);
+            List<FireStateStore.PersistedState> persistedStates = FireStateStore.write(connection, taskId, groupId,
+                    dbConfig.dbType());
+            String standbyId = getLiveStandby(connection, taskId, groupId, livenessInterval);
+            boolean released;
+            if (standbyId != null) {
+                try (PreparedStatement stmt = connection.prepareStatement(HAND_OVER_TOKEN_QUERY)) {
+                    stmt.setString(1, standbyId);
+                    stmt.setString(2, taskId);
+                    stmt.setString(3, groupId);
+                    released = stmt.executeUpdate() > 0;
+                }
+            } else {
+                try (PreparedStatement stmt = connection.prepareStatement(RELEASE_TOKEN_QUERY)) {
+                    stmt.setString(1, taskId);
+                    stmt.setString(2, groupId);
+                    released = stmt.executeUpdate() > 0;
+                }
+            }
+            connection.commit();
+            FireStateStore.onPersisted(taskId, groupId, persistedStates);
+            TaskMetrics.setTokenHolder(groupId, false);
+            return released;
+        } catch (SQLException e) {
+            handleRollback(connection);
+            throw e;
+        } finally {
+            if (connection != null) {
+                connection.close();
+            }
+        }
+    }
+
+    // Both the heartbeats are read from the database, so that they are compared against the same clock
+    private static String getLiveStandby(Connection connection, String taskId, String groupId, int livenessInterval)
+            throws SQLException {
+        Timestamp lastHeartbeat;
+        try (PreparedStatement stmt = connection.prepareStatement(HEALTH_CHECK_QUERY)) {
+            stmt.setString(1, taskId);
+            stmt.setString(2, groupId);
+            ResultSet result = stmt.executeQuery();
+            if (!result.next()) {
+                return null;
+            }
+            lastHeartbeat = result.getTimestamp(LAST_HEARTBEAT);
+        }
+        try (PreparedStatement stmt = connection.prepareStatement(LATEST_STANDBY_QUERY)) {
+            stmt.setString(1, groupId);
+            stmt.setString(2, taskId);
+            ResultSet result = stmt.executeQuery();
+            if (!result.next()) {
+                return null;
+            }
+            long heartbeatLag = (lastHeartbeat.getTime() - result.getTimestamp(LAST_HEARTBEAT).getTime()) / 1000;
+            return heartbeatLag <= livenessInterval ? result.getString(ID) : null;
+        }
+    }
+
     public static String getJdbcUrl(DatabaseConfig dbConfig) {
         String dbType = dbConfig.dbType();
-        if (DB_TYPE_MYSQL.equals(dbType)) {
+        if (DB_TYPE_H2.equals(dbType)) {
+            return String.format(H2_JDBC_URL, dbConfig.database());
+        } else if (DB_TYPE_MYSQL.equals(dbType)) {
             return String.format(MYSQL_JDBC_URL, dbConfig.host(), dbConfig.port(), dbConfig.database());
         } else {
             return String.format(POSTGRESQL_JDBC_URL, dbConfig.host(), dbConfig.port(), dbConfig.database());
         }
     }
 
+    /**
+     * Checks whether the MySQL queries are used for the given database type. The H2 database is supported only in the
+     * MySQL compatibility mode.
+     */
+    public static boolean isMysqlDialect(String dbType) {
+        return DB_TYPE_MYSQL.equals(dbType) || DB_TYPE_H2.equals(dbType);
+    }
+
     private static BMap<BString, Object> generateResponse(boolean tokenAcquired, int interval, String instanceId,
-                                                          String groupId, DatabaseConfig databaseConfig) {
+                                                          String groupId, DatabaseConfig databaseConfig,
+                                                          boolean persistFireState) {
         BMap<BString, Object> response = ValueCreator.createMapValue();
         response.put(STATUS, tokenAcquired ? ACTIVE_STATUS : STANDBY_STATUS);
         response.put(TASK_ID, StringUtils.fromString(instanceId));
@@ -130,6 +224,7 @@ public final class TokenAcquisition {
         response.put(TOKEN_HOLDER, tokenAcquired);
         response.put(DATABASE_CONFIG, databaseConfig);
         response.put(LIVENESS_CHECK_INTERVAL, interval);
+        response.put(PERSIST_FIRE_STATE, persistFireState);
         return response;
     }
 
@@ -142,62 +237,46 @@ public final class TokenAcquisition {
         }
     }
 
+    /**
+     * Acquires the token of the group, if it is not held by any node, or if the heartbeat of its holder is older than
+     * the liveness check interval. The token and the heartbeat of its holder are read in a single query, and the
+     * heartbeat is compared against the database clock, which is estimated from the cached clock offset of the node.
+     *
+     * @return true if the node holds the token
+     */
     public static boolean attemptTokenAcquisition(Connection connection, String taskId, String groupId,
-                                                  boolean hasToken, int livenessInterval, String dbType)
+                                                  boolean hasToken, int livenessInterval, DatabaseConfig dbConfig)
             throws SQLException {
-        boolean acquiredToken = hasToken;
+        String existingTokenId;
+        Timestamp lastHeartbeat;
         try (PreparedStatement stmt = connection.prepareStatement(GET_CURRENT_TOKEN_QUERY)) {
             stmt.setString(1, groupId);
             ResultSet result = stmt.executeQuery();
             if (!result.next()) {
-                String upsertQuery = DB_TYPE_MYSQL.equals(dbType)
-                        ? MYSQL_UPSERT_TOKEN_QUERY : POSTGRESQL_UPSERT_TOKEN_QUERY;
-                PreparedStatement upsertStmt = connection.prepareStatement(upsertQuery);
-                upsertStmt.setString(1, taskId);
-                upsertStmt.setString(2, groupId);
-                upsertStmt.executeUpdate();
-                return true;
-            }
-
-            String existingTokenId = result.getString(ID);
-            if (existingTokenId.equals(taskId)) {
+                upsertToken(connection, taskId, groupId, dbConfig.dbType());
                 return true;
             }
+            existingTokenId = result.getString(ID);
+            lastHeartbeat = result.getTimestamp(LAST_HEARTBEAT);
+        }
+        if (existingTokenId.equals(taskId)) {
+            return true;
+        }
+        if (lastHeartbeat == null || (DatabaseClock.currentTimeMillis(connection, dbConfig)
+                - lastHeartbeat.getTime()) / 1000 > livenessInterval) {
+            upsertToken(connection, taskId, groupId, dbConfig.dbType());
+            return true;
+        }
+        return hasToken;
+    }
 
-            try (PreparedStatement currentTimeStmt = connection.prepareStatement(CURRENT_TIMESTAMP_QUERY)) {
-                ResultSet timeResult = currentTimeStmt.executeQuery();
-                Timestamp currentTime = timeResult.next()
-                        ? timeResult.getTimestamp(1) : Timestamp.from(Instant.now());
-
-                PreparedStatement healthStmt = connection.prepareStatement(HEALTH_CHECK_QUERY);
-                healthStmt.setString(1, existingTokenId);
-                healthStmt.setString(2, groupId);
-                ResultSet healthCheckRs = healthStmt.executeQuery();
-
-                if (healthCheckRs.next()) {
-                    Timestamp lastHeartbeat = healthCheckRs.getTimestamp(LAST_HEARTBEAT);
-                    long timeDiffSeconds = (currentTime.getTime() - lastHeartbeat.getTime()) / 1000;
-
-                    if (timeDiffSeconds > livenessInterval) {
-                        String upsertQuery = DB_TYPE_MYSQL.equals(dbType)
-                                ? MYSQL_UPSERT_TOKEN_QUERY : POSTGRESQL_UPSERT_TOKEN_QUERY;
-                        PreparedStatement upsertStmt = connection.prepareStatement(upsertQuery);
-                        upsertStmt.setString(1, taskId);
-                        upsertStmt.setString(2, groupId);
-                        upsertStmt.executeUpdate();
-                        acquiredToken = true;
-                    }
-                } else {
-                    String upsertQuery = DB_TYPE_MYSQL.equals(dbType)
-                            ? MYSQL_UPSERT_TOKEN_QUERY : POSTGRESQL_UPSERT_TOKEN_QUERY;
-                    PreparedStatement upsertStmt = connection.prepareStatement(upsertQuery);
-                    upsertStmt.setString(1, taskId);
-                    upsertStmt.setString(2, groupId);
-                    upsertStmt.executeUpdate();
-                    acquiredToken = true;
-                }
-            }
+    private static void upsertToken(Connection connection, String taskId, String groupId, String dbType)
+            throws SQLException {
+        try (PreparedStatement stmt = connection.prepareStatement(isMysqlDialect(dbType)
+                ? MYSQL_UPSERT_TOKEN_QUERY : POSTGRESQL_UPSERT_TOKEN_QUERY)) {
+            stmt.setString(1, taskId);
+            stmt.setString(2, groupId);
+            stmt.executeUpdate();
         }
-        return acquiredToken;
     }
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.task.execution;
+
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.task.utils.TaskConstants;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Interval of an adaptive job, which runs at the minimum interval while the job reports pending work and backs off
+ * exponentially towards the maximum interval while the job is idle.
+ *
+ * @since 2.11.1
+ */
+public class AdaptiveInterval {
+
+    private final long minInterval;
+    private final long maxInterval;
+    private final double backoffFactor;
+    private final AtomicLong currentInterval;
+
+    public AdaptiveInterval(long minInterval, long maxInterval, double backoffFactor) {
+        this.minInterval = minInterval;
+        this.maxInterval = maxInterval;
+        this.backoffFactor = backoffFactor;
+        this.currentInterval = new AtomicLong(minInterval);
+    }
+
+    /**
+     * Creates an adaptive interval from the given `task:AdaptiveIntervalConfig`.
+     *
+     * @param config The adaptive interval configuration
+     * @return The adaptive interval
+     */
+    public static AdaptiveInterval fromConfig(BMap<BString, Object> config) {
+        BigDecimal minInterval = ((BDecimal) config.get(TaskConstants.MIN_INTERVAL)).decimalValue();
+        if (minInterval.signum() <= 0) {
+            throw new IllegalArgumentException("The minInterval should be a positive value.");
+        }
+        BigDecimal maxInterval = ((BDecimal) config.get(TaskConstants.MAX_INTERVAL)).decimalValue();
+        if (maxInterval.compareTo(minInterval) < 0) {
+            throw new IllegalArgumentException("The maxInterval should not be less than the minInterval.");
+        }
+        BigDecimal backoffFactor = ((BDecimal) config.get(TaskConstants.BACKOFF_FACTOR)).decimalValue();
+        if (backoffFactor.compareTo(BigDecimal.ONE) < 0) {
+            throw new IllegalArgumentException("The backoffFactor should not be less than 1.");
+        }
+        BigDecimal millisPerSecond = new BigDecimal(TaskConstants.MILLIS_PER_SECOND);
+        return new AdaptiveInterval(minInterval.multiply(millisPerSecond).longValue(),
+                maxInterval.multiply(millisPerSecond).longValue(), backoffFactor.doubleValue());
+    }
+
+    /**
+     * Computes the interval to the next execution from the outcome of the last execution.
+     *
+     * @param moreWork Whether the job reported pending work
+     * @return The next interval (in milliseconds)
+     */
+    public long next(boolean moreWork) {
+        return currentInterval.updateAndGet(current -> moreWork ? minInterval :
+                (long) Math.min(current * backoffFactor, maxInterval));
+    }
+
+    public long getMinInterval() {
+        return minInterval;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.task.execution;
+
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.task.utils.TaskConstants;
+import org.quartz.Trigger;
+
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tracks the missed triggers of a job, which uses the `COALESCE` or `CATCH_UP` waiting policy.
+ *
+ * @since 2.11.1
+ */
+public class CatchUpState {
+
+    private final int maxCatchUpFires;
+    private final AtomicInteger missedFires = new AtomicInteger();
+    private final AtomicInteger replayedFires = new AtomicInteger();
+
+    /**
+     * Creates the catch-up state of a job.
+     *
+     * @param maxCatchUpFires The maximum number of missed triggers to be replayed. Zero coalesces all the missed
+     *                        triggers into the next execution
+     */
+    public CatchUpState(int maxCatchUpFires) {
+        this.maxCatchUpFires = maxCatchUpFires;
+    }
+
+    /**
+     * Creates the catch-up state from the waiting policy of the given task policy.
+     *
+     * @param policy The `task:TaskPolicy` of the job
+     * @return The catch-up state or else null if the waiting policy does not coalesce the missed triggers
+     */
+    public static CatchUpState fromPolicy(BMap<BString, Object> policy) {
+        String waitingPolicy = ((BString) policy.get(TaskConstants.WAITING_POLICY)).getValue();
+        if (TaskConstants.COALESCE.equalsIgnoreCase(waitingPolicy)) {
+            return new CatchUpState(0);
+        }
+        if (!TaskConstants.CATCH_UP.equalsIgnoreCase(waitingPolicy)) {
+            return null;
+        }
+        long maxCatchUpFires = policy.getIntValue(TaskConstants.MAX_CATCH_UP_FIRES);
+        if (maxCatchUpFires < 0) {
+            throw new IllegalArgumentException("The maxCatchUpFires should not be a negative value.");
+        }
+        return new CatchUpState(Math.toIntExact(maxCatchUpFires));
+    }
+
+    /**
+     * Creates the catch-up state of a rescheduled job. The current state is kept along with the missed triggers,
+     * which are not reported yet, if the new policy configures it in the same way.
+     *
+     * @param policy The new `task:TaskPolicy` of the job
+     * @param current The current catch-up state of the job or else null
+     * @return The catch-up state or else null if the waiting policy does not coalesce the missed triggers
+     */
+    public static CatchUpState fromPolicy(BMap<BString, Object> policy, CatchUpState current) {
+        CatchUpState catchUpState = fromPolicy(policy);
+        if (catchUpState != null && current != null && catchUpState.maxCatchUpFires == current.maxCatchUpFires) {
+            return current;
+        }
+        return catchUpState;
+    }
+
+    /**
+     * Decides whether the given fire should be skipped. A fire is considered missed when the next fire time of
+     * its trigger has already passed, i.e. the trigger is replaying a backlog. Only the most recent fire of a
+     * backlog and the first `maxCatchUpFires` missed fires are executed.
+     *
+     * @param trigger The trigger, which has fired
+     * @return true if the fire should be skipped
+     */
+    public boolean skipFire(Trigger trigger) {
+        Date nextFireTime = trigger.getNextFireTime();
+        if (nextFireTime == null || nextFireTime.getTime() > TaskClock.get().currentTimeMillis()) {
+            replayedFires.set(0);
+            return false;
+        }
+        if (replayedFires.incrementAndGet() <= maxCatchUpFires) {
+            return false;
+        }
+        missedFires.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Gets the number of skipped fires since the last execution and resets it.
+     *
+     * @return The number of missed triggers to be reported to the job
+     */
+    public int takeMissedFires() {
+        return missedFires.getAndSet(0);
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.task.execution;
+
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.task.utils.TaskConstants;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Per-job circuit breaker, which suspends the executions of a job after a number of consecutive failures.
+ *
+ * @since 2.11.1
+ */
+public class CircuitBreaker {
+
+    /**
+     * States of the circuit breaker.
+     */
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long coolDownPeriod;
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long openedAt;
+
+    public CircuitBreaker(int failureThreshold, long coolDownPeriod) {
+        this.failureThreshold = failureThreshold;
+        this.coolDownPeriod = coolDownPeriod;
+    }
+
+    /**
+     * Creates a circuit breaker from the `task:CircuitBreakerConfig` in the given task policy.
+     *
+     * @param policy The `task:TaskPolicy` of the job
+     * @return The circuit breaker or else null if the policy does not configure one
+     */
+    public static CircuitBreaker fromPolicy(BMap<BString, Object> policy) {
+        Object config = policy.get(TaskConstants.CIRCUIT_BREAKER_CONFIG);
+        if (!(config instanceof BMap<?, ?> breakerConfig)) {
+            return null;
+        }
+        long failureThreshold = breakerConfig.getIntValue(TaskConstants.FAILURE_THRESHOLD);
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("The failureThreshold should be a positive integer.");
+        }
+        BigDecimal coolDownPeriod = ((BDecimal) breakerConfig.get(TaskConstants.COOL_DOWN_PERIOD)).decimalValue();
+        if (coolDownPeriod.signum() < 0) {
+            throw new IllegalArgumentException("The coolDownPeriod should not be a negative value.");
+        }
+        return new CircuitBreaker(Math.toIntExact(failureThreshold),
+                coolDownPeriod.multiply(new BigDecimal(TaskConstants.MILLIS_PER_SECOND)).longValue());
+    }
+
+    /**
+     * Creates the circuit breaker of a rescheduled job. The current circuit breaker is kept along with its state if
+     * the new policy configures it in the same way.
+     *
+     * @param policy The new `task:TaskPolicy` of the job
+     * @param current The current circuit breaker of the job or else null
+     * @return The circuit breaker or else null if the policy does not configure one
+     */
+    public static CircuitBreaker fromPolicy(BMap<BString, Object> policy, CircuitBreaker current) {
+        CircuitBreaker circuitBreaker = fromPolicy(policy);
+        if (circuitBreaker != null && current != null && circuitBreaker.failureThreshold == current.failureThreshold
+                && circuitBreaker.coolDownPeriod == current.coolDownPeriod) {
+            return current;
+        }
+        return circuitBreaker;
+    }
+
+    /**
+     * Checks whether a fire is allowed to execute the job. Once the cool-down period of an open circuit has
+     * elapsed, only a single probe execution is let through.
+     *
+     * @return true if the job should be executed, false if the fire should be skipped
+     */
+    public boolean tryAcquire() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.OPEN && TaskClock.get().currentTimeMillis() - openedAt >= coolDownPeriod) {
+            return state.compareAndSet(State.OPEN, State.HALF_OPEN);
+        }
+        return false;
+    }
+
+    /**
+     * Releases a probe execution which was admitted but never ran, so that the next fire can probe again.
+     */
+    public void cancelProbe() {
+        state.compareAndSet(State.HALF_OPEN, State.OPEN);
+    }
+
+    public void onSuccess() {
+        consecutiveFailures.set(0);
+        state.set(State.CLOSED);
+    }
+
+    public void onFailure() {
+        if (state.get() == State.HALF_OPEN || consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            openedAt = TaskClock.get().currentTimeMillis();
+            consecutiveFailures.set(0);
+            state.set(State.OPEN);
+        }
+    }
+
+    public State getState() {
+        return state.get();
+    }
+}
@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.task.execution;
+
+import io.ballerina.stdlib.task.utils.TaskMetrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Hands the job executions of a worker pool over to virtual threads. When the number of concurrent executions is
+ * bounded and saturated, the pending executions are queued and started in the order of their trigger priority.
+ * Besides the default worker pool, named worker pools isolate the executions of different job families.
+ *
+ * @since 2.11.1
+ */
+public final class ExecutionDispatcher {
+
+    public static final int UNBOUNDED = -1;
+    public static final long NO_MISFIRE_THRESHOLD = -1;
+
+    private static final ExecutionDispatcher INSTANCE = new ExecutionDispatcher(UNBOUNDED, NO_MISFIRE_THRESHOLD);
+    private static final Map<String, ExecutionDispatcher> workerPools = new ConcurrentHashMap<>();
+
+    private final PriorityQueue<PendingExecution> pendingExecutions = new PriorityQueue<>(
+            Comparator.comparingInt(PendingExecution::priority).reversed()
+                    .thenComparingLong(PendingExecution::sequence));
+    private final LongAdder completedExecutions = new LongAdder();
+    private final LongAdder misfiredExecutions = new LongAdder();
+    private final LongAdder timedOutExecutions = new LongAdder();
+    private final LongAdder abandonedExecutions = new LongAdder();
+    private final long misfireThreshold;
+    private int maxConcurrentExecutions;
+    private int runningExecutions = 0;
+    private long sequence = 0;
+
+    private ExecutionDispatcher(int maxConcurrentExecutions, long misfireThreshold) {
+        this.maxConcurrentExecutions = maxConcurrentExecutions;
+        this.misfireThreshold = misfireThreshold;
+    }
+
+    public static ExecutionDispatcher getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Creates a named worker pool.
+     *
+     * @param name The name of the worker pool
+     * @param maxConcurrentExecutions The maximum number of concurrent executions or else -1 for no limit
+     * @param misfireThreshold The time (in milliseconds) a fire can wait in the worker pool before it is skipped
+     */
+    public static void createWorkerPool(String name, int maxConcurrentExecutions, long misfireThreshold) {
+        validateMaxConcurrentExecutions(maxConcurrentExecutions);
+        if (misfireThreshold < 0) {
+            throw new IllegalArgumentException("The waitingTime should not be a negative value.");
+        }
+        ExecutionDispatcher workerPool = new ExecutionDispatcher(maxConcurrentExecutions, misfireThreshold);
+        if (workerPools.putIfAbsent(name, workerPool) != null) {
+            throw new IllegalArgumentException("Worker pool already exists: " + name);
+        }
+    }
+
+    public static void removeWorkerPool(String name) {
+        if (workerPools.remove(name) == null) {
+            throw new IllegalArgumentException("Invalid worker pool: " + name);
+        }
+    }
+
+    /**
+     * Gets a worker pool.
+     *
+     * @param name The name of the worker pool or else null for the default worker pool
+     * @return The worker pool
+     */
+    public static ExecutionDispatcher getWorkerPool(String name) {
+        if (name == null) {
+            return INSTANCE;
+        }
+        ExecutionDispatcher workerPool = workerPools.get(name);
+        if (workerPool == null) {
+            throw new IllegalArgumentException("Invalid worker pool: " + name);
+        }
+        return workerPool;
+    }
+
+    /**
+     * Gets the worker pool of a job. The jobs of a removed worker pool fall back to the default worker pool.
+     *
+     * @param name The name of the worker pool of the job or else null
+     * @return The worker pool
+     */
+    public static ExecutionDispatcher getJobWorkerPool(String name) {
+        return name == null ? INSTANCE : workerPools.getOrDefault(name, INSTANCE);
+    }
+
+    /**
+     * Sets the maximum number of job executions, which run concurrently. The pending executions are started if the
+     * limit is raised.
+     *
+     * @param maxConcurrentExecutions The maximum number of concurrent executions or else -1 for no limit
+     */
+    public void setMaxConcurrentExecutions(int maxConcurrentExecutions) {
+        validateMaxConcurrentExecutions(maxConcurrentExecutions);
+        List<Runnable> executions = new ArrayList<>();
+        synchronized (this) {
+            this.maxConcurrentExecutions = maxConcurrentExecutions;
+            while (!pendingExecutions.isEmpty() && hasCapacity()) {
+                runningExecutions++;
+                executions.add(pendingExecutions.poll().execution());
+            }
+        }
+        executions.forEach(this::start);
+    }
+
+    private static void validateMaxConcurrentExecutions(int maxConcurrentExecutions) {
+        if (maxConcurrentExecutions != UNBOUNDED && maxConcurrentExecutions < 1) {
+            throw new IllegalArgumentException("The maxConcurrentExecutions should be a positive integer or -1.");
+        }
+    }
+
+    /**
+     * Dispatches a job execution. The execution starts immediately unless the concurrent executions are saturated.
+     *
+     * @param priority The priority of the trigger, which fired the job
+     * @param execution The job execution
+     */
+    public void dispatch(int priority, Runnable execution) {
+        synchronized (this) {
+            if (!hasCapacity()) {
+                pendingExecutions.add(new PendingExecution(priority, sequence++, execution));
+                return;
+            }
+            runningExecutions++;
+        }
+        start(execution);
+    }
+
+    /**
+     * Checks whether a fire has waited longer than the misfire threshold of the worker pool. A misfired fire
+     * should be skipped without executing the job.
+     *
+     * @param scheduledFireTime The time the fire was scheduled at
+     * @return true if the fire is misfired
+     */
+    public boolean isMisfired(Date scheduledFireTime) {
+        if (misfireThreshold == NO_MISFIRE_THRESHOLD || scheduledFireTime == null ||
+                TaskClock.get().currentTimeMillis() - scheduledFireTime.getTime() <= misfireThreshold) {
+            return false;
+        }
+        misfiredExecutions.increment();
+        TaskMetrics.onMisfire();
+        return true;
+    }
+
+    /**
+     * Runs a job execution within a deadline. The execution runs on its own virtual thread, while the dispatched
+     * execution waits for it. If the deadline passes, the execution is interrupted and abandoned, so that the
+     * dispatched execution completes and releases its slot in the worker pool. An abandoned execution, which
+     * ignores the interrupt, keeps running in the background until it returns, but its result is discarded. The
+     * deadline is measured on the system clock even in the virtual time, as the execution itself runs in real time.
+     *
+     * @param execution The job execution
+     * @param timeout The deadline (in milliseconds) of the execution
+     * @return The result of the execution
+     * @throws TimeoutException If the execution did not complete within the deadline
+     * @throws InterruptedException If the dispatched execution is interrupted while waiting
+     */
+    public Object callWithTimeout(Supplier<Object> execution, long timeout)
+            throws TimeoutException, InterruptedException {
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        Thread thread = Thread.startVirtualThread(() -> {
+            try {
+                result.complete(execution.get());
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        });
+        try {
+            return result.get(timeout, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        } catch (TimeoutException | InterruptedException e) {
+            abandon(thread, result);
+            if (e instanceof TimeoutException) {
+                timedOutExecutions.increment();
+            }
+            throw e;
+        }
+    }
+
+    private void abandon(Thread thread, CompletableFuture<Object> result) {
+        abandonedExecutions.increment();
+        result.whenComplete((value, error) -> abandonedExecutions.decrement());
+        thread.interrupt();
+    }
+
+    public synchronized int getMaxConcurrentExecutions() {
+        return maxConcurrentExecutions;
+    }
+
+    public synchronized int getActiveExecutionCount() {
+        return runningExecutions;
+    }
+
+    public synchronized int getPendingExecutionCount() {
+        return pendingExecutions.size();
+    }
+
+    public long getCompletedExecutionCount() {
+        return completedExecutions.sum();
+    }
+
+    public long getMisfiredExecutionCount() {
+        return misfiredExecutions.sum();
+    }
+
+    public long getTimedOutExecutionCount() {
+        return timedOutExecutions.sum();
+    }
+
+    public long getAbandonedExecutionCount() {
+        return abandonedExecutions.sum();
+    }
+
+    private boolean hasCapacity() {
+        return maxConcurrentExecutions == UNBOUNDED || runningExecutions < maxConcurrentExecutions;
+    }
+
+    private void start(Runnable execution) {
+        Runnable task = () -> {
+            try {
+                execution.run();
+            } finally {
+                completedExecutions.increment();
+                Runnable next = onCompletion();
+                if (next != null) {
+                    start(next);
+                }
+            }
+        };
+        // The executions run in place on the virtual time, so that the fires complete in the order of their times
+        if (TaskClock.isVirtual()) {
+            task.run();
+        } else {
+            Thread.startVirtualThread(task);
+        }
+    }
+
+    // Hands the slot of the completed execution over to the highest priority pending execution, if any
+    private synchronized Runnable onCompletion() {
+        if (hasCapacityAfterCompletion() && !pendingExecutions.isEmpty()) {
+            return pendingExecutions.poll().execution();
+        }
+        runningExecutions--;
+        return null;
+    }
+
+    private boolean hasCapacityAfterCompletion() {
+        return maxConcurrentExecutions == UNBOUNDED || runningExecutions <= maxConcurrentExecutions;
+    }
+
+    private record PendingExecution(int priority, long sequence, Runnable execution) {
+    }
+}
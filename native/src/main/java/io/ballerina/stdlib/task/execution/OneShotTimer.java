@@ -0,0 +1,357 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.task.execution;
+
+import io.ballerina.stdlib.task.utils.TaskConstants;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Hashed timing wheel for the one-time jobs, which does not go through the Quartz scheduler. A one-time job is a
+ * single delayed callback, so it is kept as a timeout in the wheel instead of a Quartz job and trigger, and
+ * scheduling and cancelling a job are O(1). The job IDs are taken from a sequence and are never reused, so that a
+ * stale ID, which is held after its job has run, never refers to another job.
+ *
+ * @since 2.11.1
+ */
+public final class OneShotTimer {
+
+    private static final OneShotTimer INSTANCE = new OneShotTimer();
+
+    private static final long TICK_DURATION = 10;
+    private static final int WHEEL_SIZE = 512;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    // Timer job IDs have this bit set, so that they never clash with the IDs of the Quartz jobs
+    private static final int TIMER_JOB_FLAG = 1 << 30;
+    private static final int SEQUENCE_MASK = TIMER_JOB_FLAG - 1;
+    private static final int MAX_PENDING_COUNT = 1 << 21;
+    public static final int NO_SLOT = -1;
+
+    private final Timeout[] wheel = new Timeout[WHEEL_SIZE];
+    private final Map<Integer, Timeout> timeouts = new HashMap<>();
+    private int nextSequence = 0;
+    private long keepAliveTime = TaskConstants.DEFAULT_KEEP_ALIVE_TIME;
+    private boolean prewarmed = false;
+    private boolean paused = false;
+    private long startTime;
+    private long tick = 0;
+    private Thread worker = null;
+
+    private OneShotTimer() {}
+
+    public static OneShotTimer getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Sets the duration, for which the idle timer thread is kept alive, so that it is reused by the one-time jobs
+     * scheduled afterwards.
+     *
+     * @param keepAliveTime The keep-alive time (in milliseconds)
+     */
+    public synchronized void setKeepAliveTime(long keepAliveTime) {
+        this.keepAliveTime = keepAliveTime;
+        notifyAll();
+    }
+
+    /**
+     * Starts the timer thread ahead of the first one-time job. The thread is not stopped while it is idle, until the
+     * first one-time job is scheduled.
+     */
+    public synchronized void prewarm() {
+        prewarmed = true;
+        startWorker();
+    }
+
+    /**
+     * Schedules a task to run once at the given time.
+     *
+     * @param triggerTime The time (in milliseconds since the epoch) to run the task
+     * @param task The task, which is given the ID of the job when it runs
+     * @return The ID of the job or else `NO_SLOT` if the timer is full or its job IDs are used up
+     */
+    public synchronized int schedule(long triggerTime, TimerTask task) {
+        // Once the sequence is used up, the one-time jobs are scheduled in Quartz, so that no job ID is reused
+        if (timeouts.size() >= MAX_PENDING_COUNT || nextSequence > SEQUENCE_MASK) {
+            return NO_SLOT;
+        }
+        prewarmed = false;
+        startWorker();
+        int jobId = TIMER_JOB_FLAG | nextSequence++;
+        Timeout timeout = new Timeout(jobId, triggerTime, task);
+        timeouts.put(jobId, timeout);
+        addToWheel(timeout);
+        notifyAll();
+        return jobId;
+    }
+
+    /**
+     * Cancels a task, which is not run yet.
+     *
+     * @param jobId The ID of the job
+     * @return true if the task was cancelled, false if there is no pending task for the job
+     */
+    public synchronized boolean cancel(int jobId) {
+        Timeout timeout = getTimeout(jobId);
+        if (timeout == null) {
+            return false;
+        }
+        removeFromWheel(timeout);
+        timeouts.remove(jobId);
+        return true;
+    }
+
+    public synchronized boolean contains(int jobId) {
+        return getTimeout(jobId) != null;
+    }
+
+    /**
+     * Pauses a pending task. If the task becomes due while it is paused, it is run as soon as it is resumed.
+     *
+     * @param jobId The ID of the job
+     * @return true if the task was paused, false if there is no pending task for the job
+     */
+    public synchronized boolean pause(int jobId) {
+        Timeout timeout = getTimeout(jobId);
+        if (timeout == null) {
+            return false;
+        }
+        timeout.paused = true;
+        return true;
+    }
+
+    public boolean resume(int jobId) {
+        List<Timeout> expired = new ArrayList<>(1);
+        synchronized (this) {
+            Timeout timeout = getTimeout(jobId);
+            if (timeout == null) {
+                return false;
+            }
+            timeout.paused = false;
+            if (timeout.held && !paused) {
+                expire(timeout, expired);
+            }
+        }
+        run(expired);
+        return true;
+    }
+
+    public synchronized void pauseAll() {
+        paused = true;
+    }
+
+    public void resumeAll() {
+        List<Timeout> expired = new ArrayList<>();
+        synchronized (this) {
+            paused = false;
+            for (Timeout timeout : timeouts.values()) {
+                if (timeout.held && !timeout.paused) {
+                    expired.add(timeout);
+                }
+            }
+            for (Timeout timeout : expired) {
+                removeFromWheel(timeout);
+                timeouts.remove(timeout.jobId);
+            }
+        }
+        run(expired);
+    }
+
+    public synchronized Set<Integer> getScheduledJobIds() {
+        if (timeouts.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(timeouts.keySet());
+    }
+
+    /**
+     * Visits a pending task.
+     *
+     * @param jobId The ID of the job
+     * @param visitor The visitor, which is given the state of the task
+     * @return true if the task was visited, false if there is no pending task for the job
+     */
+    public synchronized boolean visit(int jobId, PendingTaskVisitor visitor) {
+        Timeout timeout = getTimeout(jobId);
+        if (timeout == null) {
+            return false;
+        }
+        visitor.visit(timeout.jobId, timeout.triggerTime, paused || timeout.paused);
+        return true;
+    }
+
+    public synchronized void forEachPending(PendingTaskVisitor visitor) {
+        for (Timeout timeout : timeouts.values()) {
+            visitor.visit(timeout.jobId, timeout.triggerTime, paused || timeout.paused);
+        }
+    }
+
+    public static boolean isTimerJob(int jobId) {
+        return (jobId & TIMER_JOB_FLAG) != 0;
+    }
+
+    private Timeout getTimeout(int jobId) {
+        return isTimerJob(jobId) ? timeouts.get(jobId) : null;
+    }
+
+    private void addToWheel(Timeout timeout) {
+        long deadlineTick = Math.max((timeout.triggerTime - startTime + TICK_DURATION - 1) / TICK_DURATION, tick);
+        timeout.remainingRounds = (deadlineTick - tick) / WHEEL_SIZE;
+        timeout.bucket = (int) (deadlineTick & WHEEL_MASK);
+        Timeout head = wheel[timeout.bucket];
+        timeout.next = head;
+        if (head != null) {
+            head.previous = timeout;
+        }
+        wheel[timeout.bucket] = timeout;
+        timeout.inWheel = true;
+    }
+
+    private void removeFromWheel(Timeout timeout) {
+        if (!timeout.inWheel) {
+            return;
+        }
+        if (timeout.previous != null) {
+            timeout.previous.next = timeout.next;
+        } else {
+            wheel[timeout.bucket] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.previous = timeout.previous;
+        }
+        timeout.previous = null;
+        timeout.next = null;
+        timeout.inWheel = false;
+    }
+
+    private void expire(Timeout timeout, List<Timeout> expired) {
+        removeFromWheel(timeout);
+        timeouts.remove(timeout.jobId);
+        expired.add(timeout);
+    }
+
+    private void expireBucket(int bucket, List<Timeout> expired) {
+        Timeout timeout = wheel[bucket];
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            if (timeout.remainingRounds > 0) {
+                timeout.remainingRounds--;
+            } else if (timeout.paused || paused) {
+                // The task is run when it is resumed
+                removeFromWheel(timeout);
+                timeout.held = true;
+            } else {
+                expire(timeout, expired);
+            }
+            timeout = next;
+        }
+    }
+
+    private void startWorker() {
+        if (worker != null) {
+            return;
+        }
+        if (timeouts.isEmpty()) {
+            startTime = System.currentTimeMillis();
+            tick = 0;
+        }
+        // The timer thread keeps the process alive only while there are pending one-time jobs
+        worker = Thread.ofPlatform().name(TaskConstants.ONE_SHOT_TIMER).start(this::runWorker);
+    }
+
+    private void runWorker() {
+        List<Timeout> expired = new ArrayList<>();
+        long idleSince = System.currentTimeMillis();
+        while (true) {
+            synchronized (this) {
+                long now = System.currentTimeMillis();
+                if (timeouts.isEmpty() && !prewarmed) {
+                    if (now - idleSince >= keepAliveTime) {
+                        worker = null;
+                        return;
+                    }
+                } else {
+                    idleSince = now;
+                }
+                while (startTime + tick * TICK_DURATION <= now) {
+                    expireBucket((int) (tick & WHEEL_MASK), expired);
+                    tick++;
+                }
+                if (expired.isEmpty()) {
+                    try {
+                        wait(timeouts.isEmpty() ? (prewarmed ? 0 : keepAliveTime) :
+                                Math.max(startTime + tick * TICK_DURATION - now, 1));
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        worker = null;
+                        return;
+                    }
+                }
+            }
+            run(expired);
+            expired.clear();
+        }
+    }
+
+    private static void run(List<Timeout> expired) {
+        for (Timeout timeout : expired) {
+            timeout.task.run(timeout.jobId);
+        }
+    }
+
+    /**
+     * Task, which is run by the timer.
+     */
+    @FunctionalInterface
+    public interface TimerTask {
+        void run(int jobId);
+    }
+
+    /**
+     * Visitor of the pending tasks of the timer.
+     */
+    @FunctionalInterface
+    public interface PendingTaskVisitor {
+        void visit(int jobId, long triggerTime, boolean paused);
+    }
+
+    private static final class Timeout {
+        private final int jobId;
+        private final long triggerTime;
+        private final TimerTask task;
+        private long remainingRounds;
+        private int bucket;
+        private boolean inWheel = false;
+        private boolean paused = false;
+        private boolean held = false;
+        private Timeout previous;
+        private Timeout next;
+
+        private Timeout(int jobId, long triggerTime, TimerTask task) {
+            this.jobId = jobId;
+            this.triggerTime = triggerTime;
+            this.task = task;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.task.execution;
+
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.task.utils.TaskConstants;
+import io.ballerina.stdlib.task.utils.Utils;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Spreads the fire phases of the jobs, which share the same interval and start time, by offsetting the start time
+ * of each job within the interval.
+ *
+ * @since 2.11.1
+ */
+public class PhaseSpread {
+
+    private final long maxOffset;
+    private final boolean random;
+    private final String key;
+
+    public PhaseSpread(long maxOffset, boolean random, String key) {
+        this.maxOffset = maxOffset;
+        this.random = random;
+        this.key = key;
+    }
+
+    /**
+     * Creates a phase spread from the given `task:PhaseSpreadConfig`.
+     *
+     * @param config The phase spread configuration or else null
+     * @return The phase spread or else null if the configuration is not provided
+     */
+    public static PhaseSpread fromConfig(Object config) {
+        if (!(config instanceof BMap<?, ?> spreadConfig)) {
+            return null;
+        }
+        BigDecimal maxOffset = ((BDecimal) spreadConfig.get(TaskConstants.MAX_OFFSET)).decimalValue();
+        if (maxOffset.signum() < 0) {
+            throw new IllegalArgumentException("The maxOffset should not be a negative value.");
+        }
+        BString mode = (BString) spreadConfig.get(TaskConstants.MODE);
+        Object key = spreadConfig.get(TaskConstants.KEY);
+        return new PhaseSpread(maxOffset.multiply(new BigDecimal(TaskConstants.MILLIS_PER_SECOND)).longValue(),
+                TaskConstants.RANDOM.equals(mode.getValue()), key instanceof BString bKey ? bKey.getValue() : null);
+    }
+
+    /**
+     * Offsets the start time of a job with the hashed offset of the configured key, or else of the given ID.
+     *
+     * @param startTime The start time (in milliseconds) of the job or else null to start immediately
+     * @param interval The interval (in milliseconds) of the job
+     * @param jobId The ID of the job, which the hashed offset is derived from if no key is configured
+     * @return The offset start time (in milliseconds)
+     */
+    public Object getJobStartTime(Object startTime, long interval, String jobId) {
+        return getStartTime(startTime, interval, key != null ? key : jobId);
+    }
+
+    /**
+     * Offsets the start time of a job. The offset is less than both the maximum offset and the interval, so that
+     * the average frequency of the job is not changed.
+     *
+     * @param startTime The start time (in milliseconds) of the job or else null to start immediately
+     * @param interval The interval (in milliseconds) of the job
+     * @param key The key or the name of the service, which the hashed offset is derived from
+     * @return The offset start time (in milliseconds)
+     */
+    public Object getStartTime(Object startTime, long interval, String key) {
+        long bound = Math.min(maxOffset, interval);
+        if (bound <= 0) {
+            return startTime;
+        }
+        long offset = random ? ThreadLocalRandom.current().nextLong(bound) : Math.floorMod(mix(key.hashCode()), bound);
+        return (Utils.isInt(startTime) ? (Long) startTime : TaskClock.get().currentTimeMillis()) + offset;
+    }
+
+    private static long mix(int hash) {
+        // Scatters the close hash codes of the sequential keys and names across the range
+        long mixed = hash * 0x9E3779B97F4A7C15L;
+        return mixed ^ (mixed >>> 32);
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.task.execution;
+
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.task.utils.TaskConstants;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Token bucket rate limiter, which throttles the job executions before they are handed over to the Ballerina
+ * runtime.
+ *
+ * @since 2.11.1
+ */
+public class RateLimiter {
+
+    private static final long SHED = -1;
+
+    private final double permitsPerNano;
+    private final double burstSize;
+    private final boolean shedOnThrottle;
+    private final long maxDelayNanos;
+    private final LongAdder permitted = new LongAdder();
+    private final LongAdder delayed = new LongAdder();
+    private final LongAdder shed = new LongAdder();
+    private double availablePermits;
+    private long lastRefillTime;
+
+    public RateLimiter(double permitsPerSecond, int burstSize, boolean shedOnThrottle, long maxDelayNanos) {
+        this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.burstSize = burstSize;
+        this.shedOnThrottle = shedOnThrottle;
+        this.maxDelayNanos = maxDelayNanos;
+        this.availablePermits = burstSize;
+        this.lastRefillTime = TaskClock.get().nanoTime();
+    }
+
+    /**
+     * Creates a rate limiter from the given `task:RateLimiterConfig`.
+     *
+     * @param config The rate limiter configuration
+     * @return The rate limiter
+     */
+    public static RateLimiter fromConfig(BMap<BString, Object> config) {
+        BigDecimal permitsPerSecond = ((BDecimal) config.get(TaskConstants.PERMITS_PER_SECOND)).decimalValue();
+        if (permitsPerSecond.signum() <= 0) {
+            throw new IllegalArgumentException("The permitsPerSecond should be a positive value.");
+        }
+        long burstSize = config.getIntValue(TaskConstants.BURST_SIZE);
+        if (burstSize < 1) {
+            throw new IllegalArgumentException("The burstSize should be a positive integer.");
+        }
+        BigDecimal maxDelay = ((BDecimal) config.get(TaskConstants.MAX_DELAY)).decimalValue();
+        if (maxDelay.signum() < 0) {
+            throw new IllegalArgumentException("The maxDelay should not be a negative value.");
+        }
+        boolean shedOnThrottle = TaskConstants.SHED.equals(config.getStringValue(TaskConstants.THROTTLE_POLICY)
+                .getValue());
+        long maxDelayNanos = maxDelay.multiply(BigDecimal.valueOf(TimeUnit.SECONDS.toNanos(1))).longValue();
+        return new RateLimiter(permitsPerSecond.doubleValue(), Math.toIntExact(burstSize), shedOnThrottle,
+                maxDelayNanos);
+    }
+
+    /**
+     * Acquires a permit to execute a job. When the rate is exceeded, the calling thread is parked until a permit
+     * is available unless the fire is shed according to the throttle policy.
+     *
+     * @return true if the job can be executed, false if the fire is shed
+     */
+    public boolean acquire() {
+        long waitTime = reserve();
+        if (waitTime == SHED) {
+            shed.increment();
+            return false;
+        }
+        if (waitTime > 0) {
+            delayed.increment();
+            TaskClock.get().sleep(waitTime);
+        }
+        permitted.increment();
+        return true;
+    }
+
+    /**
+     * Returns a permit, which was acquired for a fire that was shed afterwards, so that it is not lost.
+     */
+    public void release() {
+        synchronized (this) {
+            availablePermits = Math.min(burstSize, availablePermits + 1);
+        }
+        permitted.decrement();
+    }
+
+    private synchronized long reserve() {
+        long now = TaskClock.get().nanoTime();
+        availablePermits = Math.min(burstSize, availablePermits + (now - lastRefillTime) * permitsPerNano);
+        lastRefillTime = now;
+        if (availablePermits >= 1) {
+            availablePermits -= 1;
+            return 0;
+        }
+        long waitTime = (long) Math.ceil((1 - availablePermits) / permitsPerNano);
+        if (shedOnThrottle || waitTime > maxDelayNanos) {
+            return SHED;
+        }
+        // Reserves a future permit, so that the delayed fires are released in order
+        availablePermits -= 1;
+        return waitTime;
+    }
+
+    public long getPermittedCount() {
+        return permitted.sum();
+    }
+
+    public long getDelayedCount() {
+        return delayed.sum();
+    }
+
+    public long getShedCount() {
+        return shed.sum();
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.task.execution;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the global rate limiter and the named rate limiter groups shared by all the scheduled jobs.
+ *
+ * @since 2.11.1
+ */
+public final class RateLimiterRegistry {
+
+    private static volatile RateLimiter globalRateLimiter = null;
+    private static final Map<String, RateLimiter> rateLimiterGroups = new ConcurrentHashMap<>();
+
+    private RateLimiterRegistry() {}
+
+    public static void setRateLimiter(String group, RateLimiter rateLimiter) {
+        if (group == null) {
+            globalRateLimiter = rateLimiter;
+        } else if (rateLimiter == null) {
+            rateLimiterGroups.remove(group);
+        } else {
+            rateLimiterGroups.put(group, rateLimiter);
+        }
+    }
+
+    public static RateLimiter getRateLimiter(String group) {
+        return group == null ? globalRateLimiter : rateLimiterGroups.get(group);
+    }
+
+    /**
+     * Acquires a permit from the rate limiter of the given group and then from the global rate limiter. When the
+     * global rate limiter sheds the fire, the permit of the group is returned.
+     *
+     * @param group The rate limiter group of the job or else null
+     * @return true if the job can be executed, false if the fire is shed
+     */
+    public static boolean acquire(String group) {
+        RateLimiter groupRateLimiter = group == null ? null : rateLimiterGroups.get(group);
+        if (groupRateLimiter != null && !groupRateLimiter.acquire()) {
+            return false;
+        }
+        RateLimiter rateLimiter = globalRateLimiter;
+        if (rateLimiter == null || rateLimiter.acquire()) {
+            return true;
+        }
+        if (groupRateLimiter != null) {
+            groupRateLimiter.release();
+        }
+        return false;
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.task.execution;
+
+import org.quartz.SchedulerConfigException;
+import org.quartz.spi.ThreadPool;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Quartz thread pool, which can be resized while the scheduler is running. Unlike the `SimpleThreadPool`, the
+ * worker threads are created on demand, so that the number of available threads changes without recreating the
+ * scheduler.
+ *
+ * @since 2.11.1
+ */
+public class ResizableThreadPool implements ThreadPool {
+
+    private final Object lock = new Object();
+    private ExecutorService executor;
+    private String instanceName = "";
+    private int poolSize;
+    private int busyThreads = 0;
+    private boolean isShutdown = false;
+
+    public ResizableThreadPool(int poolSize) throws SchedulerConfigException {
+        validatePoolSize(poolSize);
+        this.poolSize = poolSize;
+    }
+
+    /**
+     * Changes the number of worker threads. The running jobs are not interrupted when the pool is shrunk, but no new
+     * job is started until the number of busy threads is below the new size.
+     *
+     * @param poolSize The new number of worker threads
+     * @throws SchedulerConfigException If the pool size is not a positive integer
+     */
+    public void setPoolSize(int poolSize) throws SchedulerConfigException {
+        validatePoolSize(poolSize);
+        synchronized (lock) {
+            this.poolSize = poolSize;
+            lock.notifyAll();
+        }
+    }
+
+    private static void validatePoolSize(int poolSize) throws SchedulerConfigException {
+        if (poolSize <= 0) {
+            throw new SchedulerConfigException("Thread count must be > 0");
+        }
+    }
+
+    @Override
+    public boolean runInThread(Runnable runnable) {
+        synchronized (lock) {
+            if (!waitForAvailableThread()) {
+                return false;
+            }
+            busyThreads++;
+        }
+        executor.execute(() -> {
+            try {
+                runnable.run();
+            } finally {
+                synchronized (lock) {
+                    busyThreads--;
+                    lock.notifyAll();
+                }
+            }
+        });
+        return true;
+    }
+
+    @Override
+    public int blockForAvailableThreads() {
+        synchronized (lock) {
+            waitForAvailableThread();
+            return Math.max(poolSize - busyThreads, 0);
+        }
+    }
+
+    // Should be called while holding the lock
+    private boolean waitForAvailableThread() {
+        while (busyThreads >= poolSize && !isShutdown) {
+            try {
+                lock.wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return !isShutdown;
+    }
+
+    @Override
+    public void initialize() {
+        synchronized (lock) {
+            if (executor == null) {
+                executor = Executors.newCachedThreadPool(Thread.ofPlatform().name(instanceName + "_Worker-", 1)
+                        .factory());
+            }
+        }
+    }
+
+    @Override
+    public void shutdown(boolean waitForJobsToComplete) {
+        synchronized (lock) {
+            isShutdown = true;
+            lock.notifyAll();
+        }
+        if (executor == null) {
+            return;
+        }
+        executor.shutdown();
+        if (waitForJobsToComplete) {
+            try {
+                executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public int getPoolSize() {
+        synchronized (lock) {
+            return poolSize;
+        }
+    }
+
+    @Override
+    public void setInstanceId(String instanceId) {
+    }
+
+    @Override
+    public void setInstanceName(String instanceName) {
+        this.instanceName = instanceName;
+    }
+}
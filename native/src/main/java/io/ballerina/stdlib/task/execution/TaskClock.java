@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.task.execution;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The clock of the scheduler. The fire times, the cool-down periods, the rate limits and the retry back-offs are
+ * measured against the current clock, which is the system clock unless a virtual clock is set for tests.
+ *
+ * @since 2.11.1
+ */
+public abstract class TaskClock {
+
+    public static final TaskClock SYSTEM = new TaskClock() {
+        @Override
+        public long currentTimeMillis() {
+            return System.currentTimeMillis();
+        }
+
+        @Override
+        public long nanoTime() {
+            return System.nanoTime();
+        }
+
+        @Override
+        public void sleep(long nanos) {
+            long deadline = System.nanoTime() + nanos;
+            long remaining;
+            while ((remaining = deadline - System.nanoTime()) > 0 && !Thread.currentThread().isInterrupted()) {
+                LockSupport.parkNanos(remaining);
+            }
+        }
+    };
+
+    private static volatile TaskClock current = SYSTEM;
+
+    public static TaskClock get() {
+        return current;
+    }
+
+    public static void set(TaskClock clock) {
+        current = clock;
+    }
+
+    public static boolean isVirtual() {
+        return current != SYSTEM;
+    }
+
+    /**
+     * Returns the current time in milliseconds since the epoch.
+     */
+    public abstract long currentTimeMillis();
+
+    /**
+     * Returns the current value of the clock in nanoseconds, which is only meaningful for measuring elapsed time.
+     */
+    public abstract long nanoTime();
+
+    /**
+     * Waits for the given duration, or until the calling thread is interrupted.
+     *
+     * @param nanos The duration (in nanoseconds) to wait for
+     */
+    public abstract void sleep(long nanos);
+}
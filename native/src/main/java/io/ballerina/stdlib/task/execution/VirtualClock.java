@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.task.execution;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A clock, which only advances when it is told to. A wait on the virtual clock advances the clock by the duration of
+ * the wait instead of blocking, so that the retry back-offs and the rate limits of the executions, which are run by
+ * the virtual time scheduler, complete without waiting.
+ *
+ * @since 2.11.1
+ */
+public class VirtualClock extends TaskClock {
+
+    private final long startTimeMillis;
+    private final AtomicLong elapsedNanos = new AtomicLong();
+
+    public VirtualClock(long startTimeMillis) {
+        this.startTimeMillis = startTimeMillis;
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return startTimeMillis + TimeUnit.NANOSECONDS.toMillis(elapsedNanos.get());
+    }
+
+    @Override
+    public long nanoTime() {
+        return elapsedNanos.get();
+    }
+
+    @Override
+    public void sleep(long nanos) {
+        if (nanos > 0) {
+            elapsedNanos.addAndGet(nanos);
+        }
+    }
+
+    /**
+     * Advances the clock to the given time. The clock does not move backwards.
+     *
+     * @param timeMillis The time in milliseconds since the epoch
+     */
+    public void advanceTo(long timeMillis) {
+        long targetNanos = TimeUnit.MILLISECONDS.toNanos(timeMillis - startTimeMillis);
+        elapsedNanos.accumulateAndGet(targetNanos, Math::max);
+    }
+}
@@ -25,9 +25,10 @@ import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.stdlib.task.objects.TaskManager;
+import io.ballerina.stdlib.task.utils.TaskConstants;
 import io.ballerina.stdlib.task.utils.Utils;
 
-import java.util.Map;
+import java.math.BigDecimal;
 
 import static io.ballerina.stdlib.task.utils.TaskConstants.JOB_ID;
 
@@ -41,6 +42,7 @@ public class ListenerAction {
     private static final BString END_TIME = StringUtils.fromString("endTime");
     private static final BString TASK_POLICY = StringUtils.fromString("taskPolicy");
     public static final BString WARM_BACKUP_CONFIG = StringUtils.fromString("warmBackupConfig");
+    public static final BString GRACEFUL_STOP_TIMEOUT = StringUtils.fromString("gracefulStopTimeout");
     public static final BString RETRY_CONFIG = StringUtils.fromString("retryConfig");
     public static final BString MAX_ATTEMPTS = StringUtils.fromString("maxAttempts");
     public static final BString BACKOFF_STRATEGY = StringUtils.fromString("backoffStrategy");
@@ -60,6 +62,7 @@ public class ListenerAction {
         }
         BMap<?, ?> retryConfig = configs.getMapValue(RETRY_CONFIG);
         taskListener.setConfig(RETRY_CONFIG, retryConfig);
+        taskListener.setConfig(GRACEFUL_STOP_TIMEOUT, listenerConfig.get(GRACEFUL_STOP_TIMEOUT));
         listener.addNativeData(NATIVE_LISTENER_KEY, taskListener);
         return null;
     }
@@ -94,6 +97,29 @@ public class ListenerAction {
         return null;
     }
 
+    public static Object rescheduleListener(BObject listenerObj, BMap<BString, Object> triggerConfig) {
+        TaskListener listener = (TaskListener) listenerObj.getNativeData(NATIVE_LISTENER_KEY);
+        if (listener == null) {
+            return Utils.createTaskError(LISTENER_NOT_INITIALIZED_ERROR);
+        }
+        try {
+            listener.reschedule((BDecimal) triggerConfig.get(INTERVAL), (Long) triggerConfig.get(MAX_COUNT),
+                    triggerConfig.get(START_TIME), triggerConfig.get(END_TIME),
+                    (BMap) triggerConfig.get(TASK_POLICY), triggerConfig.get(RETRY_CONFIG),
+                    triggerConfig.get(TaskConstants.PHASE_SPREAD),
+                    Math.toIntExact((Long) triggerConfig.get(TaskConstants.PRIORITY)));
+        } catch (Exception e) {
+            return Utils.createTaskError(e.getMessage());
+        }
+        // The new configuration is kept only once the services are rescheduled. The optional fields, which are not in
+        // the new configuration, should not be kept from the current one.
+        BMap<BString, Object> configs = listener.getConfig();
+        configs.remove(START_TIME);
+        configs.remove(END_TIME);
+        listener.setConfigs(triggerConfig);
+        return null;
+    }
+
     public static Object attachService(BObject listenerObj, BObject service, BString serviceName) {
         TaskListener listener = (TaskListener) listenerObj.getNativeData(NATIVE_LISTENER_KEY);
         service.addNativeData(JOB_ID, serviceName);
@@ -114,11 +140,23 @@ public class ListenerAction {
     public static Object gracefulStop(BObject listenerObj) {
         try {
             TaskListener listener = (TaskListener) listenerObj.getNativeData(NATIVE_LISTENER_KEY);
-            Map<String, BObject> services = listener.getServices();
-            for (String entry : services.keySet()) {
-                listener.getTaskManager().unScheduleJob(entry);
+            long timeout = ((BDecimal) listener.getConfig().get(GRACEFUL_STOP_TIMEOUT)).decimalValue()
+                    .multiply(new BigDecimal(TaskConstants.MILLIS_PER_SECOND)).longValue();
+            int inFlightServices = listener.stop(timeout);
+            if (inFlightServices > 0) {
+                return Utils.createTaskError("The executions of " + inFlightServices + " service(s) did not " +
+                        "complete within the graceful stop timeout of " + timeout + " ms.");
             }
-            listener.unregisterAllServices();
+        } catch (Exception e) {
+            return Utils.createTaskError(e.getMessage());
+        }
+        return null;
+    }
+
+    public static Object immediateStop(BObject listenerObj) {
+        try {
+            TaskListener listener = (TaskListener) listenerObj.getNativeData(NATIVE_LISTENER_KEY);
+            listener.stop(0);
         } catch (Exception e) {
             return Utils.createTaskError(e.getMessage());
         }
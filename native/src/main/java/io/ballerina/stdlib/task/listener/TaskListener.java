@@ -24,36 +24,40 @@ import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.task.coordination.FireStateStore;
+import io.ballerina.stdlib.task.coordination.HealthCheckScheduler;
 import io.ballerina.stdlib.task.coordination.TokenAcquisition;
 import io.ballerina.stdlib.task.exceptions.SchedulingException;
+import io.ballerina.stdlib.task.execution.PhaseSpread;
+import io.ballerina.stdlib.task.objects.CoordinationState;
+import io.ballerina.stdlib.task.objects.JobRecord;
+import io.ballerina.stdlib.task.objects.RetryPolicy;
 import io.ballerina.stdlib.task.objects.TaskManager;
 import io.ballerina.stdlib.task.utils.TaskConstants;
 import io.ballerina.stdlib.task.utils.Utils;
-import org.quartz.JobDataMap;
 import org.quartz.Scheduler;
 import org.quartz.SchedulerException;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 import static io.ballerina.stdlib.task.coordination.TokenAcquisition.DATABASE_CONFIG;
 import static io.ballerina.stdlib.task.coordination.TokenAcquisition.GROUP_ID;
 import static io.ballerina.stdlib.task.coordination.TokenAcquisition.HEARTBEAT_FREQUENCY;
 import static io.ballerina.stdlib.task.coordination.TokenAcquisition.LIVENESS_CHECK_INTERVAL;
+import static io.ballerina.stdlib.task.coordination.TokenAcquisition.PERSIST_FIRE_STATE;
 import static io.ballerina.stdlib.task.coordination.TokenAcquisition.TASK_ID;
-import static io.ballerina.stdlib.task.objects.TaskManager.BACKOFF_STRATEGY;
-import static io.ballerina.stdlib.task.objects.TaskManager.RETRY_INTERVAL;
-import static io.ballerina.stdlib.task.objects.TaskManager.INTERVAL;
-import static io.ballerina.stdlib.task.objects.TaskManager.MAX_ATTEMPTS;
-import static io.ballerina.stdlib.task.objects.TaskManager.MAX_COUNT;
-import static io.ballerina.stdlib.task.objects.TaskManager.MAX_INTERVAL;
 
 public class TaskListener {
     private static final String VALUE = "1000";
     private final TaskManager taskManager;
     private final Map<String, BObject> serviceRegistry = new ConcurrentHashMap<>();
     private final BMap<BString, Object> configs = ValueCreator.createMapValue();
+    private volatile CoordinationState coordinationState = null;
 
     public TaskListener(TaskManager taskManager) {
         this.taskManager = taskManager;
@@ -67,14 +71,15 @@ public class TaskListener {
                       Object startTime, Object endTime, BMap<BString, Object> policy,
                       Object retryConfig) throws Exception {
         getScheduler(env);
+        RetryPolicy retryPolicy = RetryPolicy.fromConfig(retryConfig);
+        PhaseSpread phaseSpread = PhaseSpread.fromConfig(configs.get(TaskConstants.PHASE_SPREAD));
+        long intervalInMillis = (interval.decimalValue().multiply(new BigDecimal(VALUE))).longValue();
         for (String serviceName : serviceRegistry.keySet()) {
-            JobDataMap jobDataMap =
-                    getJobDataMap(job, ((BString) policy.get(TaskConstants.ERR_POLICY)).getValue(), serviceName);
-            extractRetryConfigs(interval, maxCount, retryConfig, jobDataMap);
             BObject service = serviceRegistry.get(serviceName);
-            this.taskManager.scheduleListenerIntervalJob(jobDataMap,
-                    (interval.decimalValue().multiply(new BigDecimal(VALUE))).longValue(), maxCount, startTime,
-                    endTime, ((BString) policy.get(TaskConstants.WAITING_POLICY)).getValue(), serviceName, service);
+            JobRecord jobRecord = Utils.createListenerJob(serviceName, service, policy, retryPolicy, interval, null);
+            this.taskManager.scheduleListenerIntervalJob(jobRecord, intervalInMillis, maxCount,
+                    getStartTime(phaseSpread, startTime, intervalInMillis, serviceName), endTime,
+                    ((BString) policy.get(TaskConstants.WAITING_POLICY)).getValue(), getPriority());
         }
     }
 
@@ -82,35 +87,61 @@ public class TaskListener {
                       Object startTime, Object endTime, BMap<BString, Object> policy,
                       BMap warmBackupConfig, Object retryConfig) throws Exception {
         getScheduler(env);
+        RetryPolicy retryPolicy = RetryPolicy.fromConfig(retryConfig);
+        PhaseSpread phaseSpread = PhaseSpread.fromConfig(configs.get(TaskConstants.PHASE_SPREAD));
+        if (serviceRegistry.isEmpty()) {
+            return;
+        }
+        // All the services of the listener belong to the same coordination group. Hence, the token is acquired in a
+        // single transaction and the coordination state is shared by the services, instead of opening a connection
+        // and starting a heartbeat per service.
+        BMap<Object, Object> databaseConfig = warmBackupConfig.getMapValue(DATABASE_CONFIG);
+        BString id = warmBackupConfig.getStringValue(TASK_ID);
+        BString groupId = warmBackupConfig.getStringValue(GROUP_ID);
+        int livenessInterval = ((Long) warmBackupConfig.get(LIVENESS_CHECK_INTERVAL)).intValue();
+        int heartbeatFrequency = ((Long) warmBackupConfig.get(HEARTBEAT_FREQUENCY)).intValue();
+        BMap response = (BMap) TokenAcquisition.acquireToken(databaseConfig, id, groupId, false,
+                livenessInterval, heartbeatFrequency, warmBackupConfig.getBooleanValue(PERSIST_FIRE_STATE));
+        CoordinationState coordinationState = CoordinationState.fromResponse(response);
+        this.coordinationState = coordinationState;
+        long intervalInMillis = (interval.decimalValue().multiply(new BigDecimal(VALUE))).longValue();
         for (String serviceName : serviceRegistry.keySet()) {
-            JobDataMap jobDataMap = getJobDataMap(job, ((BString) policy.get(TaskConstants.ERR_POLICY)).getValue(),
-                    serviceName);
-            extractRetryConfigs(interval, maxCount, retryConfig, jobDataMap);
             BObject service = serviceRegistry.get(serviceName);
-            BMap<Object, Object> databaseConfig = warmBackupConfig.getMapValue(DATABASE_CONFIG);
-            BString id = warmBackupConfig.getStringValue(TASK_ID);
-            BString groupId = warmBackupConfig.getStringValue(GROUP_ID);
-            int livenessInterval = ((Long) warmBackupConfig.get(LIVENESS_CHECK_INTERVAL)).intValue();
-            int heartbeatFrequency = ((Long) warmBackupConfig.get(HEARTBEAT_FREQUENCY)).intValue();
-            BMap response = (BMap) TokenAcquisition.acquireToken(databaseConfig, id, groupId, false,
-                    livenessInterval, heartbeatFrequency);
-            this.taskManager.scheduleListenerIntervalJobWithTokenCheck(jobDataMap,
-                    (interval.decimalValue().multiply(new BigDecimal(VALUE))).longValue(), maxCount, startTime,
-                    endTime, ((BString) policy.get(TaskConstants.WAITING_POLICY)).getValue(),
-                    serviceName, response, service);
+            JobRecord jobRecord = Utils.createListenerJob(serviceName, service, policy, retryPolicy, interval,
+                    coordinationState);
+            this.taskManager.scheduleListenerIntervalJob(jobRecord, intervalInMillis, maxCount,
+                    getStartTime(phaseSpread, startTime, intervalInMillis, serviceName), endTime,
+                    ((BString) policy.get(TaskConstants.WAITING_POLICY)).getValue(), getPriority());
         }
     }
 
-    private static void extractRetryConfigs(BDecimal interval,
-                                            long maxCount, Object retryConfig, JobDataMap jobDataMap) {
-        if (retryConfig instanceof BMap<?, ?> config) {
-            jobDataMap.put(MAX_ATTEMPTS, config.getIntValue(ListenerAction.MAX_ATTEMPTS));
-            jobDataMap.put(BACKOFF_STRATEGY, config.getStringValue(ListenerAction.BACKOFF_STRATEGY));
-            jobDataMap.put(RETRY_INTERVAL, config.getIntValue(ListenerAction.RETRY_INTERVAL));
-            jobDataMap.put(MAX_INTERVAL, config.getIntValue(ListenerAction.MAX_INTERVAL));
+    /**
+     * Reschedules the services, which are scheduled by this listener, in place with the new trigger configuration.
+     * The services, which are attached afterwards, are scheduled with the new configuration when the listener is
+     * started. The configuration of the listener is not updated, so that the caller keeps it only once the services
+     * are rescheduled.
+     */
+    public void reschedule(BDecimal interval, long maxCount, Object startTime, Object endTime,
+                           BMap<BString, Object> policy, Object retryConfig, Object phaseSpreadConfig,
+                           int priority) throws Exception {
+        RetryPolicy retryPolicy = RetryPolicy.fromConfig(retryConfig);
+        PhaseSpread phaseSpread = PhaseSpread.fromConfig(phaseSpreadConfig);
+        long intervalInMillis = (interval.decimalValue().multiply(new BigDecimal(VALUE))).longValue();
+        for (String serviceName : serviceRegistry.keySet()) {
+            // Without a start time, the services continue from their last fires and hence keep their phases
+            Object serviceStartTime = Utils.isInt(startTime) ?
+                    getStartTime(phaseSpread, startTime, intervalInMillis, serviceName) : startTime;
+            this.taskManager.rescheduleListenerIntervalJob(serviceName, policy, retryPolicy, interval, maxCount,
+                    serviceStartTime, endTime, priority);
         }
-        jobDataMap.put(MAX_COUNT, maxCount);
-        jobDataMap.put(INTERVAL, interval);
+    }
+
+    private static Object getStartTime(PhaseSpread phaseSpread, Object startTime, long interval, String serviceName) {
+        return phaseSpread == null ? startTime : phaseSpread.getStartTime(startTime, interval, serviceName);
+    }
+
+    private int getPriority() {
+        return Math.toIntExact((Long) configs.get(TaskConstants.PRIORITY));
     }
 
     public Map<String, BObject> getServices() {
@@ -153,18 +184,44 @@ public class TaskListener {
         serviceRegistry.clear();
     }
 
+    /**
+     * Stops the listener. The services are unscheduled first, so that no new execution is started, and then the
+     * in-flight executions are awaited until the timeout elapses. Finally, the heartbeat of the node is stopped and
+     * the token is released, if no other listener of the coordination group is running.
+     *
+     * @param timeout The maximum time (in milliseconds) to wait for the in-flight executions
+     * @return The number of services, whose executions are still in flight when the listener is stopped
+     */
+    public int stop(long timeout) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+        List<JobRecord> jobRecords = new ArrayList<>();
+        for (String serviceName : serviceRegistry.keySet()) {
+            JobRecord jobRecord = taskManager.unScheduleJob(serviceName);
+            if (jobRecord != null) {
+                jobRecords.add(jobRecord);
+            }
+        }
+        unregisterAllServices();
+        int inFlightServices = 0;
+        for (JobRecord jobRecord : jobRecords) {
+            if (!jobRecord.getStats().awaitExecutions(deadline)) {
+                inFlightServices++;
+            }
+        }
+        CoordinationState state = this.coordinationState;
+        this.coordinationState = null;
+        if (state != null && HealthCheckScheduler.stopHealthCheckUpdater(state.taskId(), state.groupId(),
+                Math.max(TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()), 0))) {
+            TokenAcquisition.releaseToken(state.databaseConfig(), state.taskId(), state.groupId(),
+                    state.livenessCheckInterval());
+            FireStateStore.clear(state.taskId(), state.groupId());
+        }
+        return inFlightServices;
+    }
+
     static Scheduler getScheduler(Environment env) throws SchedulingException, SchedulerException {
         Utils.disableQuartzLogs();
         return TaskManager.getInstance().getScheduler(Utils.createSchedulerProperties(
                 TaskConstants.QUARTZ_THREAD_COUNT_VALUE, TaskConstants.QUARTZ_THRESHOLD_VALUE), env);
     }
-
-    private static JobDataMap getJobDataMap(BObject job, String errorPolicy, String jobId) {
-        Utils.disableQuartzLogs();
-        JobDataMap jobDataMap = new JobDataMap();
-        jobDataMap.put(TaskConstants.JOB, job);
-        jobDataMap.put(TaskConstants.ERROR_POLICY, errorPolicy);
-        jobDataMap.put(TaskConstants.JOB_ID, jobId);
-        return jobDataMap;
-    }
 }
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.task.objects;
+
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.stdlib.task.coordination.DatabaseConfig;
+import io.ballerina.stdlib.task.coordination.TokenAcquisition;
+
+/**
+ * The task coordination state of a listener service, which is acquired when the service is scheduled.
+ *
+ * @param tokenHolder           Whether the node held the token when the service was scheduled
+ * @param taskId                The ID of the node
+ * @param groupId               The ID of the coordination group
+ * @param databaseConfig        The configuration of the coordination database
+ * @param livenessCheckInterval The interval (in seconds) to check the liveness of the token holder
+ * @param persistFireState      Whether the fire states of the services are persisted in the coordination database
+ * @since 2.11.1
+ */
+public record CoordinationState(boolean tokenHolder, String taskId, String groupId, DatabaseConfig databaseConfig,
+                                int livenessCheckInterval, boolean persistFireState) {
+
+    public static CoordinationState fromResponse(BMap<?, ?> response) {
+        return new CoordinationState(response.getBooleanValue(TokenAcquisition.TOKEN_HOLDER),
+                response.getStringValue(TokenAcquisition.TASK_ID).getValue(),
+                response.getStringValue(TokenAcquisition.GROUP_ID).getValue(),
+                (DatabaseConfig) response.get(TokenAcquisition.DATABASE_CONFIG),
+                (int) response.get(TokenAcquisition.LIVENESS_CHECK_INTERVAL),
+                response.getBooleanValue(TokenAcquisition.PERSIST_FIRE_STATE));
+    }
+}
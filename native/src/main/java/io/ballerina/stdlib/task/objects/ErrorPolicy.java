@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.task.objects;
+
+import java.util.Locale;
+
+/**
+ * Error policies of a job, which decide whether a failed execution is logged and whether the job is unscheduled.
+ *
+ * @since 2.11.1
+ */
+public enum ErrorPolicy {
+    LOG_AND_TERMINATE(true, true),
+    LOG_AND_CONTINUE(true, false),
+    TERMINATE(false, true),
+    CONTINUE(false, false);
+
+    private final boolean logged;
+    private final boolean terminated;
+
+    ErrorPolicy(boolean logged, boolean terminated) {
+        this.logged = logged;
+        this.terminated = terminated;
+    }
+
+    public static ErrorPolicy fromString(String errorPolicy) {
+        return valueOf(errorPolicy.toUpperCase(Locale.ROOT));
+    }
+
+    public boolean isLogged() {
+        return logged;
+    }
+
+    public boolean isTerminated() {
+        return terminated;
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.task.objects;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Dependency graph of the dependent jobs. A dependent job is fired once all its upstream jobs have completed
+ * successfully since its last fire, so that a pipeline of jobs is driven by the completion events of the jobs
+ * instead of staggered intervals or polling.
+ *
+ * @since 2.11.1
+ */
+public class JobDependencies {
+
+    private final Map<Integer, Set<Integer>> downstreamJobs = new HashMap<>();
+    private final Map<Integer, FanIn> fanIns = new HashMap<>();
+    private volatile boolean empty = true;
+
+    /**
+     * Adds a dependent job. As the dependent job is new, it cannot be an upstream job of its upstream jobs, which
+     * keeps the graph acyclic.
+     *
+     * @param jobId The ID of the dependent job
+     * @param upstreamJobIds The IDs of the upstream jobs
+     */
+    public synchronized void addDependentJob(int jobId, Set<Integer> upstreamJobIds) {
+        fanIns.put(jobId, new FanIn(new HashSet<>(upstreamJobIds)));
+        for (int upstreamJobId : upstreamJobIds) {
+            downstreamJobs.computeIfAbsent(upstreamJobId, id -> new HashSet<>()).add(jobId);
+        }
+        empty = false;
+    }
+
+    public synchronized boolean isDependentJob(int jobId) {
+        return fanIns.containsKey(jobId);
+    }
+
+    /**
+     * Records the successful completion of a job.
+     *
+     * @param jobId The ID of the completed job
+     * @return The IDs of the dependent jobs, whose upstream jobs have all completed
+     */
+    public List<Integer> onSuccess(int jobId) {
+        if (empty) {
+            return List.of();
+        }
+        synchronized (this) {
+            Set<Integer> dependentJobIds = downstreamJobs.get(jobId);
+            if (dependentJobIds == null) {
+                return List.of();
+            }
+            List<Integer> readyJobIds = new ArrayList<>();
+            for (int dependentJobId : dependentJobIds) {
+                if (fanIns.get(dependentJobId).complete(jobId)) {
+                    readyJobIds.add(dependentJobId);
+                }
+            }
+            return readyJobIds;
+        }
+    }
+
+    /**
+     * Removes an unscheduled job from the graph. The dependent jobs of a removed upstream job wait for their
+     * remaining upstream jobs.
+     *
+     * @param jobId The ID of the unscheduled job
+     */
+    public void remove(int jobId) {
+        if (empty) {
+            return;
+        }
+        synchronized (this) {
+            FanIn fanIn = fanIns.remove(jobId);
+            if (fanIn != null) {
+                for (int upstreamJobId : fanIn.upstreamJobIds) {
+                    Set<Integer> dependentJobIds = downstreamJobs.get(upstreamJobId);
+                    dependentJobIds.remove(jobId);
+                    if (dependentJobIds.isEmpty()) {
+                        downstreamJobs.remove(upstreamJobId);
+                    }
+                }
+            }
+            Set<Integer> dependentJobIds = downstreamJobs.remove(jobId);
+            if (dependentJobIds != null) {
+                for (int dependentJobId : dependentJobIds) {
+                    fanIns.get(dependentJobId).remove(jobId);
+                }
+            }
+            empty = fanIns.isEmpty();
+        }
+    }
+
+    private static class FanIn {
+
+        private final Set<Integer> upstreamJobIds;
+        private final Set<Integer> completedJobIds = new HashSet<>();
+
+        FanIn(Set<Integer> upstreamJobIds) {
+            this.upstreamJobIds = upstreamJobIds;
+        }
+
+        // Returns true once all the upstream jobs have completed, and starts waiting for the next round
+        boolean complete(int upstreamJobId) {
+            completedJobIds.add(upstreamJobId);
+            if (!completedJobIds.containsAll(upstreamJobIds)) {
+                return false;
+            }
+            completedJobIds.clear();
+            return true;
+        }
+
+        void remove(int upstreamJobId) {
+            upstreamJobIds.remove(upstreamJobId);
+            completedJobIds.remove(upstreamJobId);
+        }
+    }
+}
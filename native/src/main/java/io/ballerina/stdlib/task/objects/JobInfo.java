@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.task.objects;
+
+/**
+ * Snapshot of the state of a scheduled job, which is returned by the job introspection API.
+ *
+ * @param jobId           The ID of the job
+ * @param nextFireTime    The next fire time (in milliseconds since the epoch) or else `NONE`
+ * @param lastFireTime    The last fire time (in milliseconds since the epoch) or else `NONE`
+ * @param runCount        The number of times the job has been fired
+ * @param remainingCount  The number of remaining fires or else `NONE` if the job runs indefinitely
+ * @param lastRunDuration The duration (in nanoseconds) of the last completed execution or else `NONE`
+ * @param paused          Whether the job is paused
+ * @param lastError       The error message of the last completed execution or else null if it succeeded
+ * @since 2.11.1
+ */
+public record JobInfo(int jobId, long nextFireTime, long lastFireTime, long runCount, long remainingCount,
+                      long lastRunDuration, boolean paused, String lastError) {
+
+    public static final long NONE = -1;
+}
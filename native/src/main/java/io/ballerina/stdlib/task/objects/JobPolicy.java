@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.task.objects;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The immutable part of the `task:TaskPolicy` of a job. Equal policies are shared by all the jobs, which use them,
+ * so that a large schedule does not keep a copy of the same policy per job.
+ *
+ * @param errorPolicy      The error policy of the job
+ * @param rateLimiterGroup The rate limiter group of the job or else null
+ * @param workerPool       The worker pool of the job or else null to use the default worker pool
+ * @param timeout          The maximum duration (in milliseconds) of an execution or else 0 for no limit
+ * @since 2.11.1
+ */
+public record JobPolicy(ErrorPolicy errorPolicy, String rateLimiterGroup, String workerPool, long timeout) {
+
+    private static final Map<JobPolicy, JobPolicy> policies = new ConcurrentHashMap<>();
+
+    public static final long NO_TIMEOUT = 0;
+
+    public static JobPolicy of(ErrorPolicy errorPolicy, String rateLimiterGroup, String workerPool, long timeout) {
+        JobPolicy policy = new JobPolicy(errorPolicy, rateLimiterGroup, workerPool, timeout);
+        JobPolicy sharedPolicy = policies.putIfAbsent(policy, policy);
+        return sharedPolicy != null ? sharedPolicy : policy;
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.task.objects;
+
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.task.execution.AdaptiveInterval;
+import io.ballerina.stdlib.task.execution.CatchUpState;
+import io.ballerina.stdlib.task.execution.CircuitBreaker;
+import io.ballerina.stdlib.task.execution.PhaseSpread;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobKey;
+import org.quartz.TriggerKey;
+import org.quartz.impl.JobDetailImpl;
+
+/**
+ * Compact representation of a scheduled job. The job state is kept in typed fields of the job detail instead of
+ * a `JobDataMap`, and the immutable configurations are shared between the jobs, so that a job costs only a few
+ * objects on top of the Quartz trigger.
+ *
+ * @since 2.11.1
+ */
+public class JobRecord extends JobDetailImpl {
+
+    private static final long serialVersionUID = 1L;
+
+    private final BObject job;
+    private final JobPolicy policy;
+    private final TriggerKey triggerKey;
+    private final CircuitBreaker circuitBreaker;
+    private final CatchUpState catchUpState;
+    private final RetryPolicy retryPolicy;
+    private final double interval;
+    private final CoordinationState coordinationState;
+    private final AdaptiveInterval adaptiveInterval;
+    private JobStats stats = new JobStats();
+    private PhaseSpread phaseSpread = null;
+
+    public JobRecord(String jobId, Class<? extends Job> jobClass, BObject job, JobPolicy policy,
+                     String triggerGroup, CircuitBreaker circuitBreaker, CatchUpState catchUpState) {
+        this(jobId, jobClass, job, policy, triggerGroup, circuitBreaker, catchUpState, null, 0, null, null);
+    }
+
+    public JobRecord(String jobId, Class<? extends Job> jobClass, BObject job, JobPolicy policy,
+                     String triggerGroup, CircuitBreaker circuitBreaker, CatchUpState catchUpState,
+                     RetryPolicy retryPolicy, double interval, CoordinationState coordinationState,
+                     AdaptiveInterval adaptiveInterval) {
+        setKey(new JobKey(jobId));
+        setJobClass(jobClass);
+        this.job = job;
+        this.policy = policy;
+        // The trigger is named after the job, as the job ID is unique among the scheduled jobs
+        this.triggerKey = new TriggerKey(jobId, triggerGroup);
+        this.circuitBreaker = circuitBreaker;
+        this.catchUpState = catchUpState;
+        this.retryPolicy = retryPolicy;
+        this.interval = interval;
+        this.coordinationState = coordinationState;
+        this.adaptiveInterval = adaptiveInterval;
+    }
+
+    public static JobRecord from(JobExecutionContext jobExecutionContext) {
+        return (JobRecord) jobExecutionContext.getJobDetail();
+    }
+
+    public String getJobId() {
+        return getKey().getName();
+    }
+
+    public BObject getJob() {
+        return job;
+    }
+
+    public JobPolicy getPolicy() {
+        return policy;
+    }
+
+    public JobStats getStats() {
+        return stats;
+    }
+
+    /**
+     * Carries the execution statistics of the current record of a rescheduled job over to this record.
+     *
+     * @param current The current record of the job
+     */
+    public void inheritStats(JobRecord current) {
+        this.stats = current.stats;
+    }
+
+    /**
+     * Gets the phase spread of the job, which is kept so that the job is spread in the same way when it is
+     * rescheduled with a new start time.
+     *
+     * @return The phase spread or else null if the job is not spread
+     */
+    public PhaseSpread getPhaseSpread() {
+        return phaseSpread;
+    }
+
+    public void setPhaseSpread(PhaseSpread phaseSpread) {
+        this.phaseSpread = phaseSpread;
+    }
+
+    public TriggerKey getTriggerKey() {
+        return triggerKey;
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public CatchUpState getCatchUpState() {
+        return catchUpState;
+    }
+
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    /**
+     * Gets the interval of the listener (in seconds).
+     *
+     * @return The interval of the listener
+     */
+    public double getInterval() {
+        return interval;
+    }
+
+    public CoordinationState getCoordinationState() {
+        return coordinationState;
+    }
+
+    /**
+     * Gets the adaptive interval of the job.
+     *
+     * @return The adaptive interval or else null if the job runs at a fixed interval
+     */
+    public AdaptiveInterval getAdaptiveInterval() {
+        return adaptiveInterval;
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.task.objects;
+
+import io.ballerina.stdlib.task.execution.TaskClock;
+import io.ballerina.stdlib.task.utils.TaskConstants;
+import org.quartz.SimpleTrigger;
+import org.quartz.Trigger;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Execution statistics of a scheduled job. They are updated by the fires of the job, so that the state of the
+ * job can be inspected from its record without querying the Quartz job store.
+ *
+ * @since 2.11.1
+ */
+public class JobStats {
+
+    private int repeatCount = SimpleTrigger.REPEAT_INDEFINITELY;
+    private int timesTriggered = 0;
+    private long runCount = 0;
+    private long lastFireTime = JobInfo.NONE;
+    private long nextFireTime = JobInfo.NONE;
+    private long lastRunDuration = JobInfo.NONE;
+    private String lastError = null;
+    private boolean paused = false;
+    private boolean completed = false;
+    private int activeExecutions = 0;
+
+    /**
+     * Updates the schedule of the job, when it is scheduled or rescheduled.
+     *
+     * @param trigger The trigger of the job
+     */
+    public synchronized void setSchedule(Trigger trigger) {
+        if (trigger instanceof SimpleTrigger simpleTrigger) {
+            this.repeatCount = simpleTrigger.getRepeatCount();
+            this.timesTriggered = simpleTrigger.getTimesTriggered();
+        }
+        setNextFireTime(trigger.getNextFireTime());
+    }
+
+    public synchronized void setNextFireTime(Date nextFireTime) {
+        // The dormant trigger of a dependent job has no scheduled fire
+        this.nextFireTime = nextFireTime == null ||
+                nextFireTime.getTime() - TaskClock.get().currentTimeMillis() > TaskConstants.DORMANT_INTERVAL / 2 ?
+                JobInfo.NONE : nextFireTime.getTime();
+    }
+
+    /**
+     * Records a fire of the job. The run count of the trigger is taken as of the fire, since Quartz also counts the
+     * fires skipped by the misfire instructions against the repeat count.
+     *
+     * @param fireTime The fire time of the job
+     * @param trigger The trigger of the job, as of the fire
+     */
+    public synchronized void onFire(Date fireTime, Trigger trigger) {
+        Date nextFireTime = trigger.getNextFireTime();
+        if (trigger instanceof SimpleTrigger simpleTrigger) {
+            this.timesTriggered = simpleTrigger.getTimesTriggered();
+        }
+        this.runCount++;
+        this.lastFireTime = fireTime.getTime();
+        setNextFireTime(nextFireTime);
+        this.completed = nextFireTime == null;
+    }
+
+    /**
+     * Records the outcome of an execution.
+     *
+     * @param duration The duration (in nanoseconds) of the execution
+     * @param error The error message of the execution or else null if it succeeded
+     */
+    public synchronized void onCompletion(long duration, String error) {
+        this.lastRunDuration = duration;
+        this.lastError = error;
+    }
+
+    public synchronized void setPaused(boolean paused) {
+        this.paused = paused;
+    }
+
+    /**
+     * Marks the job as completed, when its trigger is removed by the scheduler.
+     */
+    public synchronized void complete() {
+        this.completed = true;
+        this.nextFireTime = JobInfo.NONE;
+    }
+
+    public synchronized boolean isCompleted() {
+        return completed;
+    }
+
+    /**
+     * Registers an execution of the job, unless the job has been completed since it was fired.
+     *
+     * @return true if the execution should proceed, false if the job is completed
+     */
+    public synchronized boolean startExecution() {
+        if (completed) {
+            return false;
+        }
+        activeExecutions++;
+        return true;
+    }
+
+    public synchronized void endExecution() {
+        if (--activeExecutions == 0) {
+            notifyAll();
+        }
+    }
+
+    /**
+     * Waits for the active executions of the job to end.
+     *
+     * @param deadline The deadline (as of {@link System#nanoTime()}) to wait until
+     * @return true if no execution is active, false if the deadline elapsed or the wait was interrupted
+     */
+    public synchronized boolean awaitExecutions(long deadline) {
+        try {
+            long remaining;
+            while (activeExecutions > 0 && (remaining = deadline - System.nanoTime()) > 0) {
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return activeExecutions == 0;
+    }
+
+    public synchronized JobInfo toJobInfo(int jobId, boolean schedulerPaused) {
+        // A simple trigger fires `repeatCount + 1` times
+        long remainingCount = repeatCount == SimpleTrigger.REPEAT_INDEFINITELY ? JobInfo.NONE :
+                Math.max(repeatCount + 1 - timesTriggered, 0);
+        return new JobInfo(jobId, nextFireTime, lastFireTime, runCount, remainingCount, lastRunDuration,
+                paused || schedulerPaused, lastError);
+    }
+}
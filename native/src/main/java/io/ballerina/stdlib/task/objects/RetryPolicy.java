@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.task.objects;
+
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.stdlib.task.listener.ListenerAction;
+
+/**
+ * The retry configuration of a listener, which is shared by the jobs of all the services attached to it.
+ *
+ * @param maxAttempts   The maximum number of retries
+ * @param exponential   Whether the retry interval is doubled after each retry
+ * @param retryInterval The initial retry interval (in seconds)
+ * @param maxInterval   The maximum retry interval (in seconds) or else null if it is not limited
+ * @since 2.11.1
+ */
+public record RetryPolicy(long maxAttempts, boolean exponential, long retryInterval, Long maxInterval) {
+
+    private static final String EXPONENTIAL_STRATEGY = "EXPONENTIAL";
+
+    public static RetryPolicy fromConfig(Object retryConfig) {
+        if (!(retryConfig instanceof BMap<?, ?> config)) {
+            return null;
+        }
+        return new RetryPolicy(config.getIntValue(ListenerAction.MAX_ATTEMPTS),
+                EXPONENTIAL_STRATEGY.equals(config.getStringValue(ListenerAction.BACKOFF_STRATEGY).getValue()),
+                config.getIntValue(ListenerAction.RETRY_INTERVAL), config.getIntValue(ListenerAction.MAX_INTERVAL));
+    }
+
+    public long nextInterval(long currentInterval) {
+        if (!exponential) {
+            return retryInterval;
+        }
+        return maxInterval == null ? currentInterval * 2 : Math.min(currentInterval * 2, maxInterval);
+    }
+}
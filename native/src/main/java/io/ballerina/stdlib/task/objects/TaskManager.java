@@ -20,50 +20,65 @@ package io.ballerina.stdlib.task.objects;
 
 import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.Runtime;
+import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
-import io.ballerina.stdlib.task.coordination.TokenAcquisition;
+import io.ballerina.runtime.api.values.BString;
 import io.ballerina.stdlib.task.exceptions.SchedulingException;
+import io.ballerina.stdlib.task.execution.AdaptiveInterval;
+import io.ballerina.stdlib.task.execution.CircuitBreaker;
+import io.ballerina.stdlib.task.execution.OneShotTimer;
+import io.ballerina.stdlib.task.execution.PhaseSpread;
+import io.ballerina.stdlib.task.execution.ResizableThreadPool;
+import io.ballerina.stdlib.task.execution.TaskClock;
+import io.ballerina.stdlib.task.execution.VirtualClock;
+import io.ballerina.stdlib.task.utils.OneShotJob;
 import io.ballerina.stdlib.task.utils.TaskConstants;
+import io.ballerina.stdlib.task.utils.TaskLogger;
+import io.ballerina.stdlib.task.utils.TaskMetrics;
 import io.ballerina.stdlib.task.utils.Utils;
-import org.quartz.JobDataMap;
-import org.quartz.JobDetail;
 import org.quartz.Scheduler;
 import org.quartz.SchedulerException;
+import org.quartz.SimpleScheduleBuilder;
+import org.quartz.SimpleTrigger;
 import org.quartz.Trigger;
-
-import java.util.HashMap;
+import org.quartz.impl.triggers.SimpleTriggerImpl;
+import org.quartz.simpl.RAMJobStore;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-
-import static io.ballerina.stdlib.task.utils.TaskConstants.JOB;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Task manager to handle schedulers in ballerina tasks.
  */
 public class TaskManager {
-    public static final String TOKEN_HOLDER = "tokenholder";
-    public static final String TASK_ID = "taskId";
-    public static final String GROUP_ID = "groupId";
-    public static final String DATABASE_CONFIG = "databaseConfig";
-    public static final String LIVENESS_CHECK_INTERVAL = "livenessCheckInterval";
-    public static final String INTERVAL = "interval";
-    public static final String MAX_COUNT = "maxCount";
-    public static final String MAX_ATTEMPTS = "maxAttempts";
-    public static final String BACKOFF_STRATEGY = "backoffStrategy";
-    public static final String RETRY_INTERVAL = "retryInterval";
-    public static final String MAX_INTERVAL = "maxInterval";
-
     private Scheduler scheduler;
     private Runtime runtime = null;
-    Map<Integer, JobDetail> jobInfoMap = new HashMap<>();
-    Map<Integer, Trigger> triggerInfoMap = new ConcurrentHashMap<>();
-    Map<String, JobDetail> serviceInfoMap = new HashMap<>();
-    Map<String, Trigger> serviceTriggerInfoMap = new ConcurrentHashMap<>();
+    Map<Integer, JobRecord> jobRecords = new ConcurrentHashMap<>();
+    Map<String, JobRecord> serviceRecords = new ConcurrentHashMap<>();
+    private final JobDependencies jobDependencies = new JobDependencies();
+    private volatile boolean paused = false;
+    private ResizableThreadPool threadPool;
+    private RAMJobStore jobStore;
     Properties properties;
-    boolean isConfiguredSchFactory = false;
+    private long keepAliveTime = TaskConstants.DEFAULT_KEEP_ALIVE_TIME;
+    private ScheduledFuture<?> idleShutdown = null;
+    private VirtualTimeScheduler virtualTimeScheduler = null;
+    private static final ScheduledExecutorService idleMonitor =
+            Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().factory());
 
     private static class TaskManagerHelper {
         private static final TaskManager INSTANCE = new TaskManager();
@@ -77,48 +92,60 @@ public class TaskManager {
 
     public void initializeScheduler(Properties properties, Environment env) throws SchedulingException,
             SchedulerException {
-        getAllRunningJobs();
-        getAllRunningServices();
-        if (this.scheduler != null) {
-            this.scheduler.shutdown();
-        }
-        if (!triggerInfoMap.isEmpty() || !serviceTriggerInfoMap.isEmpty()) {
-            configureScheduler(properties, env);
+        if (this.scheduler != null && !this.scheduler.isShutdown()) {
+            // Resizes the running scheduler in place, so that the triggers keep their next fire times and counts
+            Utils.reconfigureScheduler(this.threadPool, this.jobStore, properties);
+            if (this.virtualTimeScheduler != null) {
+                this.virtualTimeScheduler.attach(this.jobStore);
+            }
+            setRuntime(env.getRuntime());
         } else {
-            this.properties = properties;
-            isConfiguredSchFactory = true;
+            // Validates the configuration, which is used when the scheduler is created
+            Utils.createThreadPool(properties);
+            Utils.createJobStore(properties);
         }
+        this.properties = properties;
     }
 
-    public void rescheduleJobs() throws SchedulerException {
-        startScheduler();
-        for (Map.Entry<Integer, Trigger> entry : triggerInfoMap.entrySet()) {
-            this.scheduler.scheduleJob(jobInfoMap.get(entry.getKey()), entry.getValue());
-        }
-    }
-
-    public void rescheduleServiceJobs() throws SchedulerException {
-        startScheduler();
-        for (Map.Entry<String, Trigger> entry : serviceTriggerInfoMap.entrySet()) {
-            this.scheduler.scheduleJob(serviceInfoMap.get(entry.getKey()), entry.getValue());
-        }
+    public Scheduler getScheduler(Properties properties, Environment env) throws SchedulingException,
+            SchedulerException {
+        return getScheduler(properties, env.getRuntime());
     }
 
-    public Scheduler getScheduler(Properties properties, Environment env) throws SchedulingException,
+    private synchronized Scheduler getScheduler(Properties properties, Runtime runtime) throws SchedulingException,
             SchedulerException {
-        if (isConfiguredSchFactory) {
-            this.scheduler = Utils.initializeScheduler(this.properties);
-            isConfiguredSchFactory = false;
-            setRuntime(env.getRuntime());
-        } else {
-            if (this.scheduler == null || this.scheduler.isShutdown()) {
-                this.scheduler = Utils.initializeScheduler(properties);
-                setRuntime(env.getRuntime());
+        cancelIdleShutdown();
+        if (this.scheduler == null || this.scheduler.isShutdown()) {
+            Properties schedulerProperties = this.properties != null ? this.properties : properties;
+            this.threadPool = Utils.createThreadPool(schedulerProperties);
+            this.jobStore = Utils.createJobStore(schedulerProperties);
+            this.scheduler = Utils.initializeScheduler(this.threadPool, this.jobStore);
+            if (this.virtualTimeScheduler != null) {
+                this.virtualTimeScheduler.attach(this.jobStore);
             }
         }
+        setRuntime(runtime);
         return this.scheduler;
     }
 
+    /**
+     * Creates and starts the scheduler ahead of the first job. The pre-warmed scheduler is not shut down while it is
+     * idle, so that it is kept for the first job. It is shut down as usual once the jobs scheduled in it are
+     * unscheduled.
+     *
+     * @param properties The scheduler properties, which are used unless the worker pool is configured already
+     * @param runtime The Ballerina runtime
+     */
+    public void prewarm(Properties properties, Runtime runtime) {
+        Utils.disableQuartzLogs();
+        try {
+            getScheduler(properties, runtime);
+            startScheduler();
+        } catch (SchedulingException | SchedulerException e) {
+            Utils.printMessage("Unable to pre-warm the scheduler. " + e.getMessage(), System.err);
+        }
+    }
+
     private void setRuntime(Runtime runtime) {
         this.runtime = runtime;
     }
@@ -127,142 +154,586 @@ public class TaskManager {
         return this.runtime;
     }
 
-    public Map<Integer, Trigger>  getTriggerInfoMap() {
-        return this.triggerInfoMap;
+    public Set<Integer> getAllRunningJobs() throws SchedulerException {
+        Set<Integer> timerJobIds = OneShotTimer.getInstance().getScheduledJobIds();
+        if (timerJobIds.isEmpty()) {
+            return getAllScheduledJobs();
+        }
+        Set<Integer> jobIds = new HashSet<>(getAllScheduledJobs());
+        jobIds.addAll(timerJobIds);
+        return jobIds;
     }
 
-    public Set<Integer> getAllRunningJobs() throws SchedulerException {
-        for (Map.Entry<Integer, Trigger> entry : triggerInfoMap.entrySet()) {
-            Trigger.TriggerState triggerState = scheduler.getTriggerState(entry.getValue().getKey());
+    private Set<Integer> getAllScheduledJobs() throws SchedulerException {
+        for (Map.Entry<Integer, JobRecord> entry : jobRecords.entrySet()) {
+            Trigger.TriggerState triggerState = scheduler.getTriggerState(entry.getValue().getTriggerKey());
             if (triggerState != null && isTriggerCompleted(triggerState)) {
-                this.triggerInfoMap.remove(entry.getKey());
+                this.jobRecords.remove(entry.getKey());
+                this.jobDependencies.remove(entry.getKey());
             }
         }
-        return this.triggerInfoMap.keySet();
+        return this.jobRecords.keySet();
     }
 
     public Set<String> getAllRunningServices() throws SchedulerException {
-        for (Map.Entry<String, Trigger> entry : serviceTriggerInfoMap.entrySet()) {
-            Trigger.TriggerState triggerState = scheduler.getTriggerState(entry.getValue().getKey());
+        for (Map.Entry<String, JobRecord> entry : serviceRecords.entrySet()) {
+            Trigger.TriggerState triggerState = scheduler.getTriggerState(entry.getValue().getTriggerKey());
             if (triggerState != null && isTriggerCompleted(triggerState)) {
-                this.serviceTriggerInfoMap.remove(entry.getKey());
+                this.serviceRecords.remove(entry.getKey());
             }
         }
-        return this.serviceTriggerInfoMap.keySet();
+        return this.serviceRecords.keySet();
     }
 
-    public void scheduleOneTimeJob(JobDataMap jobDataMap, long time, Integer jobId) throws SchedulerException {
-        scheduleJob(Utils.createJob(jobDataMap, jobId.toString()),
-                Utils.getOneTimeTrigger(time, TaskConstants.TRIGGER_ID), jobId);
+    public int scheduleOneTimeTimer(Runtime runtime, BObject job, long time, int priority) {
+        setRuntime(runtime);
+        if (this.virtualTimeScheduler != null) {
+            // The one-time jobs are scheduled in the Quartz scheduler, which is fired on the virtual time
+            return OneShotTimer.NO_SLOT;
+        }
+        int jobId = OneShotTimer.getInstance().schedule(time, new OneShotJob(job, priority));
+        if (jobId != OneShotTimer.NO_SLOT) {
+            TaskMetrics.onJobScheduled();
+        }
+        return jobId;
+    }
+
+    public void scheduleOneTimeJob(JobRecord jobRecord, long time, Integer jobId, int priority)
+            throws SchedulerException {
+        scheduleJob(jobRecord, Utils.getOneTimeTrigger(time, jobRecord.getTriggerKey(), priority), jobId);
     }
 
-    public void scheduleListenerIntervalJob(JobDataMap jobDataMap, long interval, long maxCount, Object startTime,
-                                            Object endTime, String waitingPolicy,
-                                            String jobId, BObject service) throws SchedulerException {
-        jobDataMap.put(JOB, service);
-        JobDetail job = Utils.createListenerJob(jobDataMap, jobId);
+    public void scheduleListenerIntervalJob(JobRecord jobRecord, long interval, long maxCount, Object startTime,
+                                            Object endTime, String waitingPolicy, int priority)
+            throws SchedulerException {
         Trigger trigger = Utils.getIntervalTrigger(interval, maxCount, startTime, endTime, waitingPolicy,
-                TaskConstants.TRIGGER_ID);
-        scheduleListenerJob(job, trigger, jobId);
+                jobRecord.getTriggerKey(), priority);
+        this.scheduler.scheduleJob(jobRecord, trigger);
+        TaskMetrics.onJobScheduled();
+        this.serviceRecords.put(jobRecord.getJobId(), jobRecord);
+        startScheduler();
     }
 
-    public void scheduleIntervalJob(JobDataMap jobDataMap, long interval, long maxCount, Object startTime,
-                                    Object endTime, String waitingPolicy, Integer jobId) throws SchedulerException {
-        JobDetail job = Utils.createJob(jobDataMap, jobId.toString());
+    public void scheduleIntervalJob(JobRecord jobRecord, long interval, long maxCount, Object startTime,
+                                    Object endTime, String waitingPolicy, int priority, Integer jobId)
+            throws SchedulerException {
         Trigger trigger = Utils.getIntervalTrigger(interval, maxCount, startTime, endTime, waitingPolicy,
-                TaskConstants.TRIGGER_ID);
-        scheduleJob(job, trigger, jobId);
+                jobRecord.getTriggerKey(), priority);
+        scheduleJob(jobRecord, trigger, jobId);
     }
 
-    private void scheduleJob(JobDetail job, Trigger trigger, Integer jobId) throws SchedulerException {
-        this.scheduler.scheduleJob(job, trigger);
-        this.triggerInfoMap.put(jobId, trigger);
-        this.jobInfoMap.put(jobId, job);
-        startScheduler();
+    /**
+     * Schedules a job, which is fired once all its upstream jobs have completed successfully since its last fire.
+     *
+     * @param jobRecord The record of the dependent job
+     * @param upstreamJobIds The IDs of the upstream jobs
+     * @param priority The priority of the trigger of the job
+     * @param jobId The ID of the dependent job
+     */
+    public void scheduleDependentJob(JobRecord jobRecord, Set<Integer> upstreamJobIds, int priority, Integer jobId)
+            throws SchedulerException, SchedulingException {
+        for (Integer upstreamJobId : upstreamJobIds) {
+            if (!OneShotTimer.getInstance().contains(upstreamJobId) && !this.jobRecords.containsKey(upstreamJobId)) {
+                throw new SchedulingException("Invalid job id: " + upstreamJobId);
+            }
+        }
+        Trigger trigger = Utils.getDependentTrigger(
+                TaskClock.get().currentTimeMillis() + TaskConstants.DORMANT_INTERVAL, jobRecord.getTriggerKey(),
+                priority);
+        scheduleJob(jobRecord, trigger, jobId);
+        this.jobDependencies.addDependentJob(jobId, upstreamJobIds);
     }
 
-    private void scheduleListenerJob(JobDetail job, Trigger trigger, String jobId) throws SchedulerException {
-        this.scheduler.scheduleJob(job, trigger);
-        this.serviceTriggerInfoMap.put(jobId, trigger);
-        this.serviceInfoMap.put(jobId, job);
+    /**
+     * Fires the dependent jobs of a job, which has completed successfully, once all their upstream jobs have
+     * completed.
+     *
+     * @param jobId The ID of the completed job
+     */
+    public void notifySuccess(int jobId) {
+        for (int dependentJobId : this.jobDependencies.onSuccess(jobId)) {
+            try {
+                fireDependentJob(dependentJobId);
+            } catch (SchedulerException e) {
+                TaskLogger.error("Unable to fire the dependent job.", String.valueOf(dependentJobId),
+                        TaskLogger.ERROR_KEY, e.getMessage());
+            }
+        }
+    }
+
+    public void removeDependencies(int jobId) {
+        this.jobDependencies.remove(jobId);
+    }
+
+    // Moves the dormant trigger of the dependent job to now. A pending fire of the job is coalesced into it
+    private synchronized void fireDependentJob(int jobId) throws SchedulerException {
+        JobRecord jobRecord = this.jobRecords.get(jobId);
+        Trigger currentTrigger = jobRecord == null ? null : this.scheduler.getTrigger(jobRecord.getTriggerKey());
+        if (currentTrigger == null) {
+            return;
+        }
+        Trigger trigger = Utils.getDependentTrigger(TaskClock.get().currentTimeMillis(), currentTrigger.getKey(),
+                currentTrigger.getPriority());
+        boolean paused = this.scheduler.getTriggerState(trigger.getKey()) == Trigger.TriggerState.PAUSED;
+        this.scheduler.rescheduleJob(trigger.getKey(), trigger);
+        if (paused) {
+            this.scheduler.pauseTrigger(trigger.getKey());
+        }
+        jobRecord.getStats().setNextFireTime(trigger.getNextFireTime());
+    }
+
+    private void scheduleJob(JobRecord jobRecord, Trigger trigger, Integer jobId) throws SchedulerException {
+        this.scheduler.scheduleJob(jobRecord, trigger);
+        jobRecord.getStats().setSchedule(trigger);
+        TaskMetrics.onJobScheduled();
+        this.jobRecords.put(jobId, jobRecord);
         startScheduler();
     }
 
-    public void scheduleListenerIntervalJobWithTokenCheck(JobDataMap jobDataMap, long interval, long maxCount,
-                                                          Object startTime, Object endTime, String waitingPolicy,
-                                                          String jobId, BMap response, BObject service)
+    /**
+     * Reschedules a job in place. The policy, the priority and the phase spread, which are not given, are kept from
+     * the current schedule of the job.
+     *
+     * @param jobId The ID of the job
+     * @param policy The new `task:TaskPolicy` or else null to keep the current policy
+     * @param interval The new interval (in seconds)
+     * @param maxCount The maximum number of fires including the ones before rescheduling or else -1
+     * @param startTime The new start time (in milliseconds) or else null to continue from the last fire
+     * @param endTime The new end time (in milliseconds) or else null
+     * @param priority The new priority of the trigger or else null to keep the current priority
+     * @param phaseSpread The new phase spread or else null to keep the current phase spread
+     */
+    public void rescheduleIntervalJob(Integer jobId, BMap<BString, Object> policy, BDecimal interval, long maxCount,
+                                      Object startTime, Object endTime, Integer priority, PhaseSpread phaseSpread)
+            throws SchedulerException, SchedulingException {
+        if (OneShotTimer.getInstance().contains(jobId)) {
+            throw new SchedulingException("The one-time job[" + jobId + "] cannot be rescheduled.");
+        }
+        if (this.jobDependencies.isDependentJob(jobId)) {
+            throw new SchedulingException("The dependent job[" + jobId + "] cannot be rescheduled.");
+        }
+        JobRecord current = getJobRecord(jobId);
+        JobRecord jobRecord = policy == null ? Utils.updateJob(current, interval) :
+                Utils.updateJob(current, policy, null, interval);
+        jobRecord.setPhaseSpread(phaseSpread != null ? phaseSpread : current.getPhaseSpread());
+        if (jobRecord.getPhaseSpread() != null && Utils.isInt(startTime)) {
+            // Without a start time, the job continues from its last fire and hence keeps its phase
+            long intervalInMillis = interval.decimalValue()
+                    .multiply(new BigDecimal(TaskConstants.MILLIS_PER_SECOND)).longValue();
+            startTime = jobRecord.getPhaseSpread().getJobStartTime(startTime, intervalInMillis,
+                    String.valueOf(jobId));
+        }
+        String waitingPolicy = policy == null ? null : ((BString) policy.get(TaskConstants.WAITING_POLICY)).getValue();
+        if (rescheduleJob(current, jobRecord, interval, maxCount, startTime, endTime, waitingPolicy, priority)) {
+            this.jobRecords.put(jobId, jobRecord);
+        } else {
+            this.jobRecords.remove(jobId);
+        }
+    }
+
+    public void rescheduleListenerIntervalJob(String serviceId, BMap<BString, Object> policy,
+                                              RetryPolicy retryPolicy, BDecimal interval, long maxCount,
+                                              Object startTime, Object endTime, int priority)
+            throws SchedulerException, SchedulingException {
+        JobRecord current = this.serviceRecords.get(serviceId);
+        if (current == null) {
+            return;
+        }
+        JobRecord jobRecord = Utils.updateJob(current, policy, retryPolicy, interval);
+        if (rescheduleJob(current, jobRecord, interval, maxCount, startTime, endTime,
+                ((BString) policy.get(TaskConstants.WAITING_POLICY)).getValue(), priority)) {
+            this.serviceRecords.put(serviceId, jobRecord);
+        } else {
+            this.serviceRecords.remove(serviceId);
+        }
+    }
+
+    /**
+     * Replaces the trigger of a scheduled job in place. The new trigger keeps the run count of the current trigger
+     * against the `maxCount`, and if no start time is given, continues from the last fire of the current trigger,
+     * so that the job neither skips nor repeats a fire. The misfire instruction and the priority of the current
+     * trigger are kept, if no waiting policy or priority is given.
+     *
+     * @return true if the job is rescheduled, false if the job has already reached the new `maxCount`
+     */
+    private synchronized boolean rescheduleJob(JobRecord current, JobRecord jobRecord, BDecimal interval,
+                                               long maxCount, Object startTime, Object endTime,
+                                               String waitingPolicy, Integer priority)
+            throws SchedulerException, SchedulingException {
+        Trigger currentTrigger = this.scheduler.getTrigger(current.getTriggerKey());
+        if (!(currentTrigger instanceof SimpleTrigger simpleTrigger)) {
+            throw new SchedulingException("Invalid job id: " + current.getJobId());
+        }
+        int timesTriggered = simpleTrigger.getTimesTriggered();
+        if (maxCount > 0 && timesTriggered >= maxCount) {
+            this.scheduler.unscheduleJob(current.getTriggerKey());
+            current.getStats().complete();
+            shutdownIfIdle();
+            return false;
+        }
+        long intervalInMillis = interval.decimalValue().multiply(new BigDecimal(TaskConstants.MILLIS_PER_SECOND))
+                .longValue();
+        Object triggerStartTime = Utils.isInt(startTime) ? startTime : getNextFireTime(currentTrigger,
+                intervalInMillis);
+        SimpleTriggerImpl trigger = (SimpleTriggerImpl) Utils.getIntervalTrigger(intervalInMillis, maxCount,
+                triggerStartTime, endTime, waitingPolicy, jobRecord.getTriggerKey(),
+                priority != null ? priority : currentTrigger.getPriority());
+        if (waitingPolicy == null) {
+            trigger.setMisfireInstruction(currentTrigger.getMisfireInstruction());
+        }
+        trigger.setTimesTriggered(timesTriggered);
+        boolean paused = this.scheduler.getTriggerState(current.getTriggerKey()) == Trigger.TriggerState.PAUSED;
+        if (jobRecord.getTriggerKey().equals(current.getTriggerKey())) {
+            // Replaces the job and its trigger in a single job store operation
+            this.scheduler.scheduleJob(jobRecord, Set.of(trigger), true);
+        } else {
+            this.scheduler.unscheduleJob(current.getTriggerKey());
+            this.scheduler.scheduleJob(jobRecord, trigger);
+        }
+        if (paused) {
+            this.scheduler.pauseTrigger(jobRecord.getTriggerKey());
+        }
+        jobRecord.getStats().setSchedule(trigger);
+        return true;
+    }
+
+    /**
+     * Adapts the interval of an adaptive job to the outcome of its last execution. The trigger is rebuilt from its
+     * current simple schedule with the new interval, keeping its run count, end time and priority.
+     *
+     * @param jobRecord The record of the adaptive job
+     * @param moreWork Whether the job reported pending work
+     */
+    public synchronized void adaptInterval(JobRecord jobRecord, boolean moreWork) throws SchedulerException {
+        AdaptiveInterval adaptiveInterval = jobRecord.getAdaptiveInterval();
+        if (adaptiveInterval == null || this.scheduler == null) {
+            return;
+        }
+        Trigger currentTrigger = this.scheduler.getTrigger(jobRecord.getTriggerKey());
+        if (!(currentTrigger instanceof SimpleTrigger simpleTrigger)) {
+            // The job is completed, unscheduled or rescheduled in the meantime
+            return;
+        }
+        long interval = adaptiveInterval.next(moreWork);
+        if (interval == simpleTrigger.getRepeatInterval()) {
+            return;
+        }
+        SimpleScheduleBuilder scheduleBuilder = (SimpleScheduleBuilder) simpleTrigger.getScheduleBuilder();
+        SimpleTriggerImpl trigger = (SimpleTriggerImpl) simpleTrigger.getTriggerBuilder()
+                .withSchedule(scheduleBuilder.withIntervalInMilliseconds(interval))
+                .startAt(new Date(getNextFireTime(simpleTrigger, interval))).build();
+        trigger.setTimesTriggered(simpleTrigger.getTimesTriggered());
+        boolean paused = this.scheduler.getTriggerState(trigger.getKey()) == Trigger.TriggerState.PAUSED;
+        this.scheduler.rescheduleJob(trigger.getKey(), trigger);
+        if (paused) {
+            this.scheduler.pauseTrigger(trigger.getKey());
+        }
+        jobRecord.getStats().setNextFireTime(trigger.getNextFireTime());
+    }
+
+    /**
+     * Aligns the trigger of a listener service with the persisted fire state of its coordination group, when the node
+     * takes over the token. The trigger is moved to the next fire of the group and takes over the run count of the
+     * group against the `maxCount`.
+     *
+     * @param serviceId The ID of the service
+     * @param nextFireTime The next fire time (in milliseconds) of the group
+     * @param timesTriggered The run count of the group
+     */
+    public synchronized void alignListenerJob(String serviceId, long nextFireTime, int timesTriggered)
             throws SchedulerException {
-        jobDataMap.put(JOB, service);
-        jobDataMap.put(TOKEN_HOLDER, response.getBooleanValue(TokenAcquisition.TOKEN_HOLDER));
-        jobDataMap.put(TASK_ID, response.getStringValue(TokenAcquisition.TASK_ID));
-        jobDataMap.put(GROUP_ID, response.getStringValue(TokenAcquisition.GROUP_ID));
-        jobDataMap.put(DATABASE_CONFIG, response.get(TokenAcquisition.DATABASE_CONFIG));
-        jobDataMap.put(LIVENESS_CHECK_INTERVAL, response.get(TokenAcquisition.LIVENESS_CHECK_INTERVAL));
-        JobDetail job = Utils.createListenerJob(jobDataMap, jobId);
-        Trigger trigger = Utils.getIntervalTrigger(interval, maxCount, startTime, endTime, waitingPolicy,
-                TaskConstants.TRIGGER_ID);
-        scheduleListenerJob(job, trigger, jobId);
+        JobRecord jobRecord = this.serviceRecords.get(serviceId);
+        Trigger currentTrigger = jobRecord == null ? null : this.scheduler.getTrigger(jobRecord.getTriggerKey());
+        if (!(currentTrigger instanceof SimpleTrigger simpleTrigger)) {
+            return;
+        }
+        int repeatCount = simpleTrigger.getRepeatCount();
+        if (repeatCount != SimpleTrigger.REPEAT_INDEFINITELY && timesTriggered > repeatCount) {
+            // The group has already reached the `maxCount`
+            this.scheduler.unscheduleJob(jobRecord.getTriggerKey());
+            jobRecord.getStats().complete();
+            shutdownIfIdle();
+            return;
+        }
+        SimpleTriggerImpl trigger = (SimpleTriggerImpl) simpleTrigger.getTriggerBuilder()
+                .startAt(new Date(nextFireTime)).build();
+        trigger.setTimesTriggered(timesTriggered);
+        boolean paused = this.scheduler.getTriggerState(trigger.getKey()) == Trigger.TriggerState.PAUSED;
+        this.scheduler.rescheduleJob(trigger.getKey(), trigger);
+        if (paused) {
+            this.scheduler.pauseTrigger(trigger.getKey());
+        }
+    }
+
+    private static long getNextFireTime(Trigger trigger, long interval) {
+        Date previousFireTime = trigger.getPreviousFireTime();
+        if (previousFireTime == null) {
+            Date nextFireTime = trigger.getNextFireTime();
+            return nextFireTime != null ? nextFireTime.getTime() : TaskClock.get().currentTimeMillis();
+        }
+        return Math.max(previousFireTime.getTime() + interval, TaskClock.get().currentTimeMillis());
     }
 
     private void startScheduler () throws SchedulerException {
-        if (!this.scheduler.isStarted()) {
+        if (this.virtualTimeScheduler == null && !this.scheduler.isStarted()) {
             this.scheduler.start();
         }
     }
 
     public void unScheduleJob(Integer jobId) throws SchedulerException, SchedulingException {
-        this.scheduler.unscheduleJob(getTrigger(jobId).getKey());
-        if (getAllRunningJobs().isEmpty()) {
+        this.jobDependencies.remove(jobId);
+        if (OneShotTimer.getInstance().cancel(jobId)) {
+            return;
+        }
+        JobRecord jobRecord = getJobRecord(jobId);
+        this.scheduler.unscheduleJob(jobRecord.getTriggerKey());
+        jobRecord.getStats().complete();
+        shutdownIfIdle();
+    }
+
+    /**
+     * Unschedules a listener service. The executions of the service, which are fired but not yet started, are
+     * skipped.
+     *
+     * @param serviceId The ID of the service
+     * @return The record of the service or else null if the service is not scheduled
+     */
+    public JobRecord unScheduleJob(String serviceId) throws SchedulerException {
+        JobRecord jobRecord = this.serviceRecords.get(serviceId);
+        if (jobRecord != null) {
+            this.scheduler.unscheduleJob(jobRecord.getTriggerKey());
+            jobRecord.getStats().complete();
+            shutdownIfIdle();
+        }
+        return jobRecord;
+    }
+
+    /**
+     * Switches the scheduler to the virtual time, which starts at the current time and only advances with
+     * {@link #advanceTime(long)}. The Quartz scheduler is put in standby, so that its triggers are only fired on
+     * the virtual time.
+     */
+    public synchronized void useVirtualTime() throws SchedulerException {
+        if (this.virtualTimeScheduler != null) {
+            return;
+        }
+        VirtualClock clock = new VirtualClock(System.currentTimeMillis());
+        this.virtualTimeScheduler = new VirtualTimeScheduler(clock);
+        TaskClock.set(clock);
+        if (this.scheduler != null && !this.scheduler.isShutdown()) {
+            this.scheduler.standby();
+            this.virtualTimeScheduler.attach(this.jobStore);
+        }
+    }
+
+    /**
+     * Switches the scheduler back to the system clock. The triggers keep their next fire times, which are
+     * in the future of the system clock, if the virtual time has advanced past it.
+     */
+    public synchronized void useSystemTime() throws SchedulerException {
+        if (this.virtualTimeScheduler == null) {
+            return;
+        }
+        this.virtualTimeScheduler.detach(this.jobStore);
+        this.virtualTimeScheduler = null;
+        TaskClock.set(TaskClock.SYSTEM);
+        if (this.scheduler != null && !this.scheduler.isShutdown()) {
+            this.scheduler.start();
+        }
+    }
+
+    /**
+     * Advances the virtual time by the given duration, and runs all the fires, which are due in the meantime, in the
+     * order of their fire times.
+     *
+     * @param duration The duration (in milliseconds) to advance the time by
+     */
+    public void advanceTime(long duration) throws SchedulerException, SchedulingException {
+        VirtualTimeScheduler virtualTimeScheduler;
+        synchronized (this) {
+            virtualTimeScheduler = this.virtualTimeScheduler;
+        }
+        if (virtualTimeScheduler == null) {
+            throw new SchedulingException("The virtual time is not enabled.");
+        }
+        // The lock of the task manager is not held, as the executions may schedule or unschedule jobs
+        virtualTimeScheduler.advance(this, duration);
+    }
+
+    synchronized Scheduler getCurrentScheduler() {
+        return this.scheduler;
+    }
+
+    synchronized RAMJobStore getCurrentJobStore() {
+        return this.jobStore;
+    }
+
+    public void setKeepAliveTime(long keepAliveTime) {
+        this.keepAliveTime = Math.max(keepAliveTime, 0);
+        OneShotTimer.getInstance().setKeepAliveTime(this.keepAliveTime);
+    }
+
+    /**
+     * Shuts down the scheduler once no job or listener service has been scheduled in it for the keep-alive time.
+     * Until then, the scheduler and its worker threads are reused by the newly scheduled jobs.
+     */
+    private synchronized void shutdownIfIdle() throws SchedulerException {
+        if (!isIdle()) {
+            return;
+        }
+        cancelIdleShutdown();
+        if (this.keepAliveTime == 0) {
             this.scheduler.shutdown();
+            return;
         }
+        Scheduler idleScheduler = this.scheduler;
+        this.idleShutdown = idleMonitor.schedule(() -> shutdownIdleScheduler(idleScheduler), this.keepAliveTime,
+                TimeUnit.MILLISECONDS);
     }
 
-    public void unScheduleJob(String serviceId) throws SchedulerException {
-        if (this.serviceTriggerInfoMap.containsKey(serviceId)) {
-            this.scheduler.unscheduleJob(this.serviceTriggerInfoMap.get(serviceId).getKey());
-            if (getAllRunningServices().isEmpty()) {
-                this.scheduler.shutdown();
+    private synchronized void shutdownIdleScheduler(Scheduler idleScheduler) {
+        this.idleShutdown = null;
+        try {
+            if (idleScheduler == this.scheduler && isIdle()) {
+                idleScheduler.shutdown();
             }
+        } catch (SchedulerException e) {
+            Utils.printMessage("Unable to shut down the idle scheduler. " + e.getMessage(), System.err);
         }
     }
 
+    private void cancelIdleShutdown() {
+        if (this.idleShutdown != null) {
+            this.idleShutdown.cancel(false);
+            this.idleShutdown = null;
+        }
+    }
+
+    private boolean isIdle() throws SchedulerException {
+        return getAllScheduledJobs().isEmpty() && getAllRunningServices().isEmpty();
+    }
+
     public void pause() throws SchedulerException {
-        this.scheduler.pauseAll();
+        this.paused = true;
+        OneShotTimer.getInstance().pauseAll();
+        if (this.scheduler != null) {
+            this.scheduler.pauseAll();
+        }
     }
 
     public void resume() throws SchedulerException {
-        this.scheduler.resumeAll();
+        OneShotTimer.getInstance().resumeAll();
+        if (this.scheduler != null) {
+            this.scheduler.resumeAll();
+        }
+        // Resuming all the trigger groups also resumes the jobs, which were paused one by one
+        this.paused = false;
+        for (JobRecord jobRecord : this.jobRecords.values()) {
+            jobRecord.getStats().setPaused(false);
+        }
     }
 
     public void pauseJob(Integer jobId) throws SchedulerException, SchedulingException {
-        this.scheduler.pauseJob(getTrigger(jobId).getJobKey());
+        if (OneShotTimer.getInstance().pause(jobId)) {
+            return;
+        }
+        JobRecord jobRecord = getJobRecord(jobId);
+        this.scheduler.pauseJob(jobRecord.getKey());
+        jobRecord.getStats().setPaused(true);
     }
 
     public void resumeJob(Integer jobId) throws SchedulerException, SchedulingException {
-        this.scheduler.resumeJob(getTrigger(jobId).getJobKey());
+        if (OneShotTimer.getInstance().resume(jobId)) {
+            return;
+        }
+        JobRecord jobRecord = getJobRecord(jobId);
+        this.scheduler.resumeJob(jobRecord.getKey());
+        jobRecord.getStats().setPaused(false);
     }
 
-    private boolean isTriggerCompleted(Trigger.TriggerState triggerState) {
-        return triggerState.equals(Trigger.TriggerState.COMPLETE) || triggerState.equals(Trigger.TriggerState.NONE);
+    public CircuitBreaker getCircuitBreaker(Integer jobId) throws SchedulingException {
+        if (OneShotTimer.getInstance().contains(jobId)) {
+            // One-time jobs follow the `LOG_AND_CONTINUE` error policy and have no circuit breaker
+            return null;
+        }
+        return getJobRecord(jobId).getCircuitBreaker();
     }
 
-    private void configureScheduler(Properties properties, Environment env) throws SchedulerException,
-            SchedulingException {
-        this.scheduler = Utils.initializeScheduler(properties);
-        setRuntime(env.getRuntime());
-        if (!triggerInfoMap.isEmpty()) {
-            rescheduleJobs();
+    /**
+     * Gets the state of a scheduled job from its record, without querying the job store.
+     *
+     * @param jobId The ID of the job
+     * @return The state of the job
+     */
+    public JobInfo getJobInfo(Integer jobId) throws SchedulingException {
+        JobRecord jobRecord = this.jobRecords.get(jobId);
+        if (jobRecord != null && !jobRecord.getStats().isCompleted()) {
+            return jobRecord.getStats().toJobInfo(jobId, this.paused);
         }
-        if (!serviceTriggerInfoMap.isEmpty()) {
-            rescheduleServiceJobs();
+        List<JobInfo> timerJobInfo = new ArrayList<>(1);
+        if (OneShotTimer.getInstance().visit(jobId, (id, triggerTime, timerJobPaused) ->
+                timerJobInfo.add(getTimerJobInfo(id, triggerTime, timerJobPaused)))) {
+            return timerJobInfo.get(0);
         }
+        throw new SchedulingException("Invalid job id: " + jobId);
+    }
+
+    /**
+     * Lists the states of the scheduled jobs. The Quartz jobs are read lazily from their records as the iterator
+     * advances, so that the listing neither copies the registry nor queries the job store.
+     *
+     * @return An iterator over the states of the scheduled jobs
+     */
+    public Iterator<JobInfo> listJobs() {
+        List<JobInfo> timerJobInfos = new ArrayList<>();
+        OneShotTimer.getInstance().forEachPending((id, triggerTime, timerJobPaused) ->
+                timerJobInfos.add(getTimerJobInfo(id, triggerTime, timerJobPaused)));
+        Iterator<Map.Entry<Integer, JobRecord>> records = this.jobRecords.entrySet().iterator();
+        Iterator<JobInfo> timerJobs = timerJobInfos.iterator();
+        return new Iterator<>() {
+            private JobInfo next = advance();
+
+            private JobInfo advance() {
+                while (records.hasNext()) {
+                    Map.Entry<Integer, JobRecord> entry = records.next();
+                    JobStats stats = entry.getValue().getStats();
+                    if (!stats.isCompleted()) {
+                        return stats.toJobInfo(entry.getKey(), paused);
+                    }
+                }
+                return timerJobs.hasNext() ? timerJobs.next() : null;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public JobInfo next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                JobInfo jobInfo = next;
+                next = advance();
+                return jobInfo;
+            }
+        };
+    }
+
+    private static JobInfo getTimerJobInfo(int jobId, long triggerTime, boolean paused) {
+        return new JobInfo(jobId, triggerTime, JobInfo.NONE, 0, 1, JobInfo.NONE, paused, null);
+    }
+
+    private boolean isTriggerCompleted(Trigger.TriggerState triggerState) {
+        return triggerState.equals(Trigger.TriggerState.COMPLETE) || triggerState.equals(Trigger.TriggerState.NONE);
     }
 
-    private Trigger getTrigger(Integer jobId) throws SchedulingException {
-        if (this.triggerInfoMap.get(jobId) == null) {
+    private JobRecord getJobRecord(Integer jobId) throws SchedulingException {
+        JobRecord jobRecord = this.jobRecords.get(jobId);
+        if (jobRecord == null) {
             throw new SchedulingException("Invalid job id: " + jobId);
-        } else {
-            return this.triggerInfoMap.get(jobId);
         }
+        return jobRecord;
     }
 }
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.task.objects;
+
+import io.ballerina.stdlib.task.execution.VirtualClock;
+import org.quartz.Job;
+import org.quartz.JobExecutionException;
+import org.quartz.Matcher;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.Trigger;
+import org.quartz.TriggerKey;
+import org.quartz.TriggerListener;
+import org.quartz.impl.JobExecutionContextImpl;
+import org.quartz.simpl.RAMJobStore;
+import org.quartz.spi.OperableTrigger;
+import org.quartz.spi.TriggerFiredBundle;
+import org.quartz.spi.TriggerFiredResult;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Runs the fires of the scheduler on a virtual clock. The scheduler thread of Quartz is kept in standby, and the due
+ * triggers are acquired from the job store and fired one by one in the order of their fire times, while the clock
+ * is advanced to each fire time. The jobs are executed in place, hence a fire completes before the next one.
+ *
+ * @since 2.11.1
+ */
+public class VirtualTimeScheduler {
+    // Quartz checks the misfires against the system clock, which does not advance with the virtual clock
+    static final long MISFIRE_THRESHOLD_DISABLED = Long.MAX_VALUE / 2;
+
+    private final VirtualClock clock;
+    private long misfireThreshold = -1;
+
+    VirtualTimeScheduler(VirtualClock clock) {
+        this.clock = clock;
+    }
+
+    VirtualClock getClock() {
+        return clock;
+    }
+
+    /**
+     * Disables the misfire handling of the given job store, which is based on the system clock.
+     */
+    void attach(RAMJobStore jobStore) {
+        if (jobStore != null && jobStore.getMisfireThreshold() != MISFIRE_THRESHOLD_DISABLED) {
+            misfireThreshold = jobStore.getMisfireThreshold();
+            jobStore.setMisfireThreshold(MISFIRE_THRESHOLD_DISABLED);
+        }
+    }
+
+    /**
+     * Restores the misfire handling of the given job store.
+     */
+    void detach(RAMJobStore jobStore) {
+        if (jobStore != null && misfireThreshold >= 0) {
+            jobStore.setMisfireThreshold(misfireThreshold);
+        }
+    }
+
+    /**
+     * Advances the virtual clock by the given duration, and runs all the fires, which are due in the meantime.
+     *
+     * @param taskManager The task manager, whose scheduler is fired
+     * @param duration The duration (in milliseconds) to advance the clock by
+     */
+    synchronized void advance(TaskManager taskManager, long duration) throws SchedulerException {
+        long targetTime = clock.currentTimeMillis() + duration;
+        while (true) {
+            // The scheduler is read on each fire, as an idle scheduler is shut down and replaced by the next job
+            Scheduler scheduler = taskManager.getCurrentScheduler();
+            RAMJobStore jobStore = taskManager.getCurrentJobStore();
+            if (scheduler == null || scheduler.isShutdown() || !fireNext(scheduler, jobStore, targetTime)) {
+                break;
+            }
+        }
+        clock.advanceTo(targetTime);
+    }
+
+    private boolean fireNext(Scheduler scheduler, RAMJobStore jobStore, long targetTime) throws SchedulerException {
+        attach(jobStore);
+        List<OperableTrigger> triggers = jobStore.acquireNextTriggers(targetTime, 1, 0);
+        if (triggers.isEmpty()) {
+            return false;
+        }
+        OperableTrigger acquiredTrigger = triggers.get(0);
+        clock.advanceTo(acquiredTrigger.getNextFireTime().getTime());
+        List<TriggerFiredResult> results = jobStore.triggersFired(triggers);
+        TriggerFiredBundle firedBundle = results.isEmpty() ? null : results.get(0).getTriggerFiredBundle();
+        if (firedBundle == null) {
+            jobStore.releaseAcquiredTrigger(acquiredTrigger);
+            return true;
+        }
+        // The fire time is taken from the virtual clock instead of the system clock
+        TriggerFiredBundle bundle = new TriggerFiredBundle(firedBundle.getJobDetail(), firedBundle.getTrigger(),
+                firedBundle.getCalendar(), firedBundle.isRecovering(), new Date(clock.currentTimeMillis()),
+                firedBundle.getScheduledFireTime(), firedBundle.getPrevFireTime(), firedBundle.getNextFireTime());
+        OperableTrigger trigger = bundle.getTrigger();
+        Job job;
+        try {
+            job = bundle.getJobDetail().getJobClass().getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            jobStore.triggeredJobComplete(trigger, bundle.getJobDetail(),
+                    Trigger.CompletedExecutionInstruction.SET_ALL_JOB_TRIGGERS_ERROR);
+            throw new SchedulerException("Unable to create the job[" + bundle.getJobDetail().getKey() + "]", e);
+        }
+        JobExecutionContextImpl context = new JobExecutionContextImpl(scheduler, bundle, job);
+        List<TriggerListener> listeners = getTriggerListeners(scheduler, trigger.getKey());
+        boolean vetoed = false;
+        for (TriggerListener listener : listeners) {
+            listener.triggerFired(trigger, context);
+            vetoed |= listener.vetoJobExecution(trigger, context);
+        }
+        JobExecutionException jobException = null;
+        if (!vetoed) {
+            try {
+                job.execute(context);
+            } catch (JobExecutionException e) {
+                jobException = e;
+            }
+        }
+        Trigger.CompletedExecutionInstruction instruction = trigger.executionComplete(context, jobException);
+        if (!vetoed) {
+            for (TriggerListener listener : listeners) {
+                listener.triggerComplete(trigger, context, instruction);
+            }
+        }
+        jobStore.triggeredJobComplete(trigger, bundle.getJobDetail(), instruction);
+        return true;
+    }
+
+    private static List<TriggerListener> getTriggerListeners(Scheduler scheduler, TriggerKey triggerKey)
+            throws SchedulerException {
+        List<TriggerListener> listeners = new ArrayList<>();
+        for (TriggerListener listener : scheduler.getListenerManager().getTriggerListeners()) {
+            List<Matcher<TriggerKey>> matchers =
+                    scheduler.getListenerManager().getTriggerListenerMatchers(listener.getName());
+            if (matchers == null || matchers.stream().anyMatch(matcher -> matcher.isMatch(triggerKey))) {
+                listeners.add(listener);
+            }
+        }
+        return listeners;
+    }
+}
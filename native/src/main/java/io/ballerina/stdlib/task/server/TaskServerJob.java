@@ -24,57 +24,71 @@ import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.types.ObjectType;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.utils.TypeUtils;
-import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BObject;
-import io.ballerina.runtime.api.values.BString;
 import io.ballerina.stdlib.task.coordination.DatabaseConfig;
+import io.ballerina.stdlib.task.coordination.FireStateStore;
+import io.ballerina.stdlib.task.coordination.FireStateStore.FireSlot;
 import io.ballerina.stdlib.task.coordination.TokenAcquisition;
+import io.ballerina.stdlib.task.execution.CircuitBreaker;
+import io.ballerina.stdlib.task.execution.TaskClock;
+import io.ballerina.stdlib.task.objects.CoordinationState;
+import io.ballerina.stdlib.task.objects.JobRecord;
+import io.ballerina.stdlib.task.objects.JobStats;
+import io.ballerina.stdlib.task.objects.RetryPolicy;
 import io.ballerina.stdlib.task.objects.TaskManager;
 import io.ballerina.stdlib.task.utils.TaskConstants;
+import io.ballerina.stdlib.task.utils.TaskMetrics;
 import io.ballerina.stdlib.task.utils.Utils;
 import org.quartz.Job;
-import org.quartz.JobDataMap;
 import org.quartz.JobExecutionContext;
+import org.quartz.SimpleTrigger;
+import org.quartz.Trigger;
 
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
-import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static io.ballerina.stdlib.task.coordination.TokenAcquisition.attemptTokenAcquisition;
 import static io.ballerina.stdlib.task.coordination.TokenAcquisition.hasActiveToken;
-import static io.ballerina.stdlib.task.objects.TaskManager.BACKOFF_STRATEGY;
-import static io.ballerina.stdlib.task.objects.TaskManager.DATABASE_CONFIG;
-import static io.ballerina.stdlib.task.objects.TaskManager.INTERVAL;
-import static io.ballerina.stdlib.task.objects.TaskManager.LIVENESS_CHECK_INTERVAL;
-import static io.ballerina.stdlib.task.objects.TaskManager.MAX_ATTEMPTS;
-import static io.ballerina.stdlib.task.objects.TaskManager.MAX_COUNT;
-import static io.ballerina.stdlib.task.objects.TaskManager.MAX_INTERVAL;
-import static io.ballerina.stdlib.task.objects.TaskManager.RETRY_INTERVAL;
-import static io.ballerina.stdlib.task.objects.TaskManager.TASK_ID;
-import static io.ballerina.stdlib.task.objects.TaskManager.TOKEN_HOLDER;
 
 public class TaskServerJob implements Job {
-    public static final String GROUP_ID = "groupId";
-    public static final String EXPONENTIAL_STRATEGY = "EXPONENTIAL";
 
     @Override
     public void execute(JobExecutionContext jobExecutionContext) {
-        Thread.startVirtualThread(() -> {
-            Runtime runtime = TaskManager.getInstance().getRuntime();
-            Boolean isTokenHolder = (Boolean) jobExecutionContext.getMergedJobDataMap().get(TOKEN_HOLDER);
-            BObject job = (BObject) jobExecutionContext.getMergedJobDataMap().get(TaskConstants.JOB);
-            if (isTokenHolder == null) {
-                executeJob(job, runtime, jobExecutionContext);
+        TaskMetrics.onFire();
+        JobRecord jobRecord = JobRecord.from(jobExecutionContext);
+        CircuitBreaker circuitBreaker = jobRecord.getCircuitBreaker();
+        CoordinationState coordinationState = jobRecord.getCoordinationState();
+        // The probe of a coordinated service is taken only once the node is known to execute the fire, so that a
+        // fire of a standby node or a fire, which fails to reach the database, does not hold it
+        if (coordinationState == null && !acquireProbe(circuitBreaker)) {
+            return;
+        }
+        Utils.getWorkerPool(jobExecutionContext).dispatch(jobExecutionContext.getTrigger().getPriority(), () -> {
+            // The executions are tracked, so that a graceful stop of the listener can wait for them
+            JobStats stats = jobRecord.getStats();
+            if (!stats.startExecution()) {
+                if (coordinationState == null && circuitBreaker != null) {
+                    circuitBreaker.cancelProbe();
+                }
                 return;
             }
-            DatabaseConfig dbConfig = (DatabaseConfig) jobExecutionContext.getMergedJobDataMap().get(DATABASE_CONFIG);
-            String taskId = ((BString) jobExecutionContext.getMergedJobDataMap().get(TASK_ID)).getValue();
-            String groupId = ((BString) jobExecutionContext.getMergedJobDataMap().get(GROUP_ID)).getValue();
-            String jdbcUrl = TokenAcquisition.getJdbcUrl(dbConfig);
-            processJobWithCoordination(job, runtime, jobExecutionContext, isTokenHolder,
-                    taskId, groupId, jdbcUrl, dbConfig);
+            try {
+                Runtime runtime = TaskManager.getInstance().getRuntime();
+                BObject job = jobRecord.getJob();
+                if (coordinationState == null) {
+                    executeJob(job, runtime, jobExecutionContext);
+                    return;
+                }
+                DatabaseConfig dbConfig = coordinationState.databaseConfig();
+                String jdbcUrl = TokenAcquisition.getJdbcUrl(dbConfig);
+                processJobWithCoordination(job, runtime, jobExecutionContext, coordinationState.tokenHolder(),
+                        coordinationState.taskId(), coordinationState.groupId(), jdbcUrl, dbConfig);
+            } finally {
+                stats.endExecution();
+            }
         });
     }
 
@@ -93,9 +107,32 @@ public class TaskServerJob implements Job {
                 connection.setAutoCommit(false);
                 boolean shouldExecuteJob = checkAndUpdateTokenStatus(connection, jobExecutionContext, taskId,
                         groupId, isTokenHolder, dbConfig);
+                JobRecord jobRecord = JobRecord.from(jobExecutionContext);
+                CoordinationState coordinationState = jobRecord.getCoordinationState();
+                if (!coordinationState.persistFireState()) {
+                    connection.commit();
+                    if (shouldExecuteJob && acquireProbe(jobRecord.getCircuitBreaker())) {
+                        executeJob(job, runtime, jobExecutionContext);
+                    }
+                    return;
+                }
+                if (!shouldExecuteJob) {
+                    connection.commit();
+                    FireStateStore.onStandbyFire(coordinationState, jobRecord.getJobId());
+                    return;
+                }
+                FireSlot fireSlot = resolveFireSlot(connection, jobExecutionContext, coordinationState);
                 connection.commit();
-                if (shouldExecuteJob) {
-                    executeJob(job, runtime, jobExecutionContext);
+                if (fireSlot.nextFireTime() >= 0) {
+                    TaskManager.getInstance().alignListenerJob(jobRecord.getJobId(), fireSlot.nextFireTime(),
+                            fireSlot.timesTriggered());
+                }
+                if (fireSlot.execute() && acquireProbe(jobRecord.getCircuitBreaker())) {
+                    try {
+                        executeJob(job, runtime, jobExecutionContext);
+                    } finally {
+                        FireStateStore.onCompletion(coordinationState, jobRecord.getJobId(), fireSlot.fireTime());
+                    }
                 }
             }
         } catch (SQLException e) {
@@ -112,12 +149,35 @@ public class TaskServerJob implements Job {
                                               String taskId, String groupId, boolean isTokenHolder,
                                               DatabaseConfig dbConfig)
             throws SQLException {
+        boolean tokenHolder = false;
         if (isTokenHolder) {
-            return hasActiveToken(connection, taskId, groupId);
+            tokenHolder = hasActiveToken(connection, taskId, groupId);
+        }
+        // A node, which has lost the token, competes for it again like a standby node, so that it can take over
+        // when the token is released or handed over to it
+        if (!tokenHolder) {
+            int livenessInterval = JobRecord.from(jobExecutionContext).getCoordinationState().livenessCheckInterval();
+            tokenHolder = attemptTokenAcquisition(connection, taskId, groupId, false, livenessInterval, dbConfig);
+        }
+        TaskMetrics.setTokenHolder(groupId, tokenHolder);
+        return tokenHolder;
+    }
+
+    // Resolves the fire of the active node against the fire state of the group, which the previous active node has
+    // persisted, so that the node continues the cadence and the run count of the group after a takeover
+    private static FireSlot resolveFireSlot(Connection connection, JobExecutionContext jobExecutionContext,
+                                            CoordinationState coordinationState) throws SQLException {
+        JobRecord jobRecord = JobRecord.from(jobExecutionContext);
+        Trigger trigger = jobExecutionContext.getTrigger();
+        int timesTriggered = 1;
+        int repeatCount = 0;
+        if (trigger instanceof SimpleTrigger simpleTrigger) {
+            timesTriggered = simpleTrigger.getTimesTriggered();
+            repeatCount = simpleTrigger.getRepeatCount();
         }
-        int livenessInterval = (int) jobExecutionContext.getMergedJobDataMap().get(LIVENESS_CHECK_INTERVAL);
-        return attemptTokenAcquisition(connection, taskId, groupId, false,
-                livenessInterval, dbConfig.dbType());
+        long interval = Math.round(jobRecord.getInterval() * 1000);
+        return FireStateStore.onLeaderFire(connection, coordinationState, jobRecord.getJobId(),
+                jobExecutionContext.getScheduledFireTime().getTime(), interval, timesTriggered, repeatCount);
     }
 
     private void handleExecutionException(Connection connection,
@@ -134,41 +194,60 @@ public class TaskServerJob implements Job {
         ObjectType type = (ObjectType) TypeUtils.getReferredType(TypeUtils.getType(job));
         boolean isConcurrentSafe = type.isIsolated() && type.isIsolated(TaskConstants.EXECUTE);
         StrandMetadata metadata = new StrandMetadata(isConcurrentSafe, null);
-        Object result = runtime.callMethod(job, TaskConstants.EXECUTE, metadata);
-        if (result instanceof BError) {
-            JobDataMap jobDataMap = jobExecutionContext.getMergedJobDataMap();
-            if (shouldRetry(jobDataMap)) {
-                Long maxCount = (Long) jobDataMap.get(MAX_COUNT);
-                jobExecutionContext.getMergedJobDataMap().put(MAX_COUNT, maxCount - 1);
-                result = executeWithRetry(job, runtime, jobDataMap, metadata);
-            }
-            if (result instanceof BError) {
-                Utils.notifyFailure(jobExecutionContext, (BError) result);
+        JobRecord jobRecord = JobRecord.from(jobExecutionContext);
+        CircuitBreaker circuitBreaker = jobRecord.getCircuitBreaker();
+        if (!Utils.acquireExecutionPermit(jobExecutionContext)) {
+            return;
+        }
+        Object result;
+        try {
+            Utils.notifyMissedFires(runtime, job, jobExecutionContext);
+            result = Utils.callExecute(runtime, job, metadata, jobExecutionContext);
+            if (result instanceof BError && shouldRetry(jobRecord)) {
+                result = executeWithRetry(job, runtime, jobExecutionContext, metadata);
             }
+        } catch (BError error) {
+            recordFailure(circuitBreaker);
+            throw error;
+        }
+        if (result instanceof BError) {
+            recordFailure(circuitBreaker);
+            Utils.notifyFailure(jobExecutionContext, (BError) result);
+        } else if (circuitBreaker != null) {
+            circuitBreaker.onSuccess();
         }
     }
 
-    private Object executeWithRetry(BObject job, Runtime runtime,
-                                    Map<String, Object> jobDataMap, StrandMetadata metadata) {
-        Long maxAttempts = (Long) jobDataMap.get(MAX_ATTEMPTS);
-        String backoffStrategy = jobDataMap.get(BACKOFF_STRATEGY).toString();
-        Long retryInterval = (Long) jobDataMap.get(RETRY_INTERVAL);
-        Long maxInterval = (Long) jobDataMap.get(MAX_INTERVAL);
+    private static boolean acquireProbe(CircuitBreaker circuitBreaker) {
+        return circuitBreaker == null || circuitBreaker.tryAcquire();
+    }
+
+    private static void recordFailure(CircuitBreaker circuitBreaker) {
+        if (circuitBreaker != null) {
+            circuitBreaker.onFailure();
+        }
+    }
 
+    private Object executeWithRetry(BObject job, Runtime runtime, JobExecutionContext jobExecutionContext,
+                                    StrandMetadata metadata) {
+        JobRecord jobRecord = JobRecord.from(jobExecutionContext);
+        RetryPolicy retryPolicy = jobRecord.getRetryPolicy();
         Object result = null;
-        long startTime = System.currentTimeMillis();
-        long currentInterval = retryInterval;
-        BDecimal taskInterval = (BDecimal) jobDataMap.get(INTERVAL);
-        for (int attempt = 0; attempt < maxAttempts; attempt++) {
+        long startTime = TaskClock.get().currentTimeMillis();
+        long currentInterval = retryPolicy.retryInterval();
+        double taskInterval = jobRecord.getInterval();
+        for (int attempt = 0; attempt < retryPolicy.maxAttempts(); attempt++) {
             setTimeout(currentInterval);
-            if (maxInterval != null && (currentInterval > maxInterval || currentInterval >= taskInterval.intValue())) {
+            if (retryPolicy.maxInterval() != null &&
+                    (currentInterval > retryPolicy.maxInterval() || currentInterval >= (long) taskInterval)) {
                 break;
             }
-            if (System.currentTimeMillis() - startTime >= taskInterval.floatValue() * 1000) {
+            if (TaskClock.get().currentTimeMillis() - startTime >= taskInterval * 1000) {
                 break;
             }
-            result = runtime.callMethod(job, TaskConstants.EXECUTE, metadata);
-            currentInterval = calculateNextInterval(backoffStrategy, currentInterval, retryInterval, maxInterval);
+            TaskMetrics.onRetry();
+            result = Utils.callExecute(runtime, job, metadata, jobExecutionContext);
+            currentInterval = retryPolicy.nextInterval(currentInterval);
             if (!(result instanceof BError)) {
                 break;
             }
@@ -176,38 +255,16 @@ public class TaskServerJob implements Job {
         return result;
     }
 
-    private long calculateNextInterval(String backoffStrategy,
-                                       long currentInterval, long retryInterval, Object maxInterval) {
-        return switch (backoffStrategy) {
-            case EXPONENTIAL_STRATEGY -> {
-                if (maxInterval != null) {
-                    yield Math.min(currentInterval * 2, (long) maxInterval);
-                }
-                yield currentInterval * 2;
-            }
-            default -> retryInterval;
-        };
-    }
-
-    private boolean shouldRetry(Map<String, Object> jobDataMap) {
-        BDecimal taskInterval = (BDecimal) jobDataMap.get(INTERVAL);
-        if (!jobDataMap.containsKey(RETRY_INTERVAL)) {
+    private boolean shouldRetry(JobRecord jobRecord) {
+        RetryPolicy retryPolicy = jobRecord.getRetryPolicy();
+        if (retryPolicy == null || retryPolicy.retryInterval() > (long) jobRecord.getInterval()) {
             return false;
         }
-        Long retryInterval = (Long) jobDataMap.get(RETRY_INTERVAL);
-        if (retryInterval > taskInterval.intValue()) {
-            return false;
-        }
-        Long maxAttempts = (Long) jobDataMap.get(MAX_ATTEMPTS);
-        return maxAttempts != null && maxAttempts > 0;
+        return retryPolicy.maxAttempts() > 0;
     }
 
     public static void setTimeout(long retryInterval) {
-        try {
-            Thread.sleep(retryInterval * 1000);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+        TaskClock.get().sleep(TimeUnit.SECONDS.toNanos(retryInterval));
     }
 
     public static void handleRollback(Connection connection) throws SQLException {
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.task.utils;
+
+import io.ballerina.stdlib.task.execution.CatchUpState;
+import io.ballerina.stdlib.task.objects.JobRecord;
+import org.quartz.JobExecutionContext;
+import org.quartz.Trigger;
+import org.quartz.TriggerListener;
+
+/**
+ * The trigger listener, which vetoes the missed triggers of the jobs using the `COALESCE` and `CATCH_UP`
+ * waiting policies.
+ *
+ * @since 2.11.1
+ */
+public class CatchUpListener implements TriggerListener {
+
+    private static final String TRIGGER_LISTENER_NAME = "CatchUpListener";
+
+    @Override
+    public String getName() {
+        return TRIGGER_LISTENER_NAME;
+    }
+
+    @Override
+    public void triggerFired(Trigger trigger, JobExecutionContext context) {
+
+    }
+
+    @Override
+    public boolean vetoJobExecution(Trigger trigger, JobExecutionContext context) {
+        CatchUpState catchUpState = JobRecord.from(context).getCatchUpState();
+        if (catchUpState != null && catchUpState.skipFire(trigger)) {
+            // The missed triggers, which are coalesced into a later execution, are counted as misfires
+            TaskMetrics.onMisfire();
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void triggerMisfired(Trigger trigger) {
+        TaskMetrics.onMisfire();
+
+    }
+
+    @Override
+    public void triggerComplete(Trigger trigger, JobExecutionContext context,
+                                Trigger.CompletedExecutionInstruction triggerInstructionCode) {
+
+    }
+}
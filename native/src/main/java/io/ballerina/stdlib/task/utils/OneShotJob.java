@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.task.utils;
+
+import io.ballerina.runtime.api.Runtime;
+import io.ballerina.runtime.api.concurrent.StrandMetadata;
+import io.ballerina.runtime.api.types.ObjectType;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.task.execution.ExecutionDispatcher;
+import io.ballerina.stdlib.task.execution.OneShotTimer;
+import io.ballerina.stdlib.task.execution.RateLimiterRegistry;
+import io.ballerina.stdlib.task.objects.TaskManager;
+
+/**
+ * Represents a one-time job, which is run by the `OneShotTimer` instead of the Quartz scheduler.
+ *
+ * @since 2.11.1
+ */
+public class OneShotJob implements OneShotTimer.TimerTask {
+
+    private final BObject job;
+    private final int priority;
+
+    public OneShotJob(BObject job, int priority) {
+        this.job = job;
+        this.priority = priority;
+    }
+
+    @Override
+    public void run(int jobId) {
+        TaskMetrics.onFire();
+        ExecutionDispatcher.getInstance().dispatch(priority, () -> execute(jobId));
+    }
+
+    private void execute(int jobId) {
+        TaskManager taskManager = TaskManager.getInstance();
+        Runtime runtime = taskManager.getRuntime();
+        try {
+            if (!RateLimiterRegistry.acquire(null)) {
+                return;
+            }
+            ObjectType objectType = (ObjectType) job.getOriginalType();
+            boolean isConcurrentSafe = objectType.isIsolated() && objectType.isIsolated(TaskConstants.EXECUTE);
+            TaskMetrics.onExecutionStarted();
+            try {
+                runtime.callMethod(job, TaskConstants.EXECUTE, new StrandMetadata(isConcurrentSafe, null));
+            } finally {
+                TaskMetrics.onExecutionCompleted();
+            }
+            taskManager.notifySuccess(jobId);
+        } catch (BError error) {
+            // One-time jobs follow the `LOG_AND_CONTINUE` error policy
+            TaskMetrics.onFailure();
+            TaskLogger.error("Unable to execute the job.", String.valueOf(jobId), TaskLogger.ERROR_KEY,
+                    error.getMessage());
+        } catch (Throwable t) {
+            TaskMetrics.onFailure();
+            TaskLogger.error("Unable to execute the job.", String.valueOf(jobId), TaskLogger.ERROR_KEY, t.getMessage());
+        } finally {
+            // A one-time job does not complete again
+            taskManager.removeDependencies(jobId);
+        }
+    }
+}
@@ -36,22 +36,77 @@ public class TaskConstants {
     // Quartz property values.
     public static final String QUARTZ_THREAD_COUNT_VALUE = "5";
     public static final String QUARTZ_THRESHOLD_VALUE = "5000";
+    public static final long DEFAULT_KEEP_ALIVE_TIME = 0;
+    // The capacity of the queue of the asynchronous log writer and the interval (in milliseconds), within which a
+    // single record is logged per job and message
+    public static final int LOG_QUEUE_CAPACITY = 1024;
+    public static final long LOG_RATE_LIMIT_INTERVAL = 1000;
+    // The interval of the dormant trigger of a dependent job, which is only fired by its upstream jobs
+    public static final long DORMANT_INTERVAL = 100L * 365 * 24 * 60 * 60 * 1000;
 
-    public static final String JOB = "job";
     public static final String JOB_ID = "jobId";
-    public static final String ERROR_POLICY = "errorPolicy";
     public static final String TRIGGER_ID = "trigger";
     public static final String LOG_AND_IGNORE = "LOG_AND_IGNORE";
     public static final String EXECUTE = "execute";
     public static final String LOG = "log";
-    public static final String LOG_AND_TERMINATE = "LOG_AND_TERMINATE";
-    public static final String LOG_AND_CONTINUE = "LOG_AND_CONTINUE";
-    public static final String TERMINATE = "TERMINATE";
     public static final String WAIT = "WAIT";
+    public static final String COALESCE = "COALESCE";
+    public static final String CATCH_UP = "CATCH_UP";
+    public static final String CATCH_UP_GROUP = "catchUp";
+    public static final String ON_MISSED_FIRES = "onMissedFires";
     public static final String QUARTZ = "quartz";
+    public static final String SCHEDULER_NAME = "BallerinaTaskScheduler";
+    public static final String ONE_SHOT_TIMER = "BallerinaTaskTimer";
+    public static final String PREWARM = "PREWARM";
+    public static final String LIGHTWEIGHT = "LIGHTWEIGHT";
+    public static final String MILLIS_PER_SECOND = "1000";
+    public static final String SHED = "SHED";
+    public static final String RANDOM = "RANDOM";
+    public static final String RATE_LIMITER_STATS = "RateLimiterStats";
+    public static final String WORKER_POOL_STATS = "WorkerPoolStats";
+    public static final String JOB_INFO = "JobInfo";
+    public static final String JOB_ID_RECORD = "JobId";
+    public static final String ID = "id";
 
     public static final BString ERR_POLICY = StringUtils.fromString("errorPolicy");
     public static final BString WAITING_POLICY = StringUtils.fromString("waitingPolicy");
+    public static final BString MAX_CATCH_UP_FIRES = StringUtils.fromString("maxCatchUpFires");
+    public static final BString CIRCUIT_BREAKER_CONFIG = StringUtils.fromString("circuitBreaker");
+    public static final BString FAILURE_THRESHOLD = StringUtils.fromString("failureThreshold");
+    public static final BString COOL_DOWN_PERIOD = StringUtils.fromString("coolDownPeriod");
+    public static final BString WORKER_POOL_CONFIG = StringUtils.fromString("workerPool");
+    public static final BString TIMEOUT = StringUtils.fromString("timeout");
+    public static final BString MAX_CONCURRENT_EXECUTIONS = StringUtils.fromString("maxConcurrentExecutions");
+    public static final BString ACTIVE_EXECUTIONS = StringUtils.fromString("activeExecutions");
+    public static final BString PENDING_EXECUTIONS = StringUtils.fromString("pendingExecutions");
+    public static final BString COMPLETED_EXECUTIONS = StringUtils.fromString("completedExecutions");
+    public static final BString MISFIRED_EXECUTIONS = StringUtils.fromString("misfiredExecutions");
+    public static final BString TIMED_OUT_EXECUTIONS = StringUtils.fromString("timedOutExecutions");
+    public static final BString ABANDONED_EXECUTIONS = StringUtils.fromString("abandonedExecutions");
+    public static final BString JOB_ID_FIELD = StringUtils.fromString("jobId");
+    public static final BString NEXT_FIRE_TIME = StringUtils.fromString("nextFireTime");
+    public static final BString LAST_FIRE_TIME = StringUtils.fromString("lastFireTime");
+    public static final BString RUN_COUNT = StringUtils.fromString("runCount");
+    public static final BString REMAINING_COUNT = StringUtils.fromString("remainingCount");
+    public static final BString LAST_RUN_DURATION = StringUtils.fromString("lastRunDuration");
+    public static final BString PAUSED = StringUtils.fromString("paused");
+    public static final BString LAST_ERROR = StringUtils.fromString("lastError");
+    public static final BString PRIORITY = StringUtils.fromString("priority");
+    public static final BString RATE_LIMITER_GROUP_CONFIG = StringUtils.fromString("rateLimiterGroup");
+    public static final BString PERMITS_PER_SECOND = StringUtils.fromString("permitsPerSecond");
+    public static final BString MIN_INTERVAL = StringUtils.fromString("minInterval");
+    public static final BString MAX_INTERVAL = StringUtils.fromString("maxInterval");
+    public static final BString BACKOFF_FACTOR = StringUtils.fromString("backoffFactor");
+    public static final BString PHASE_SPREAD = StringUtils.fromString("phaseSpread");
+    public static final BString MAX_OFFSET = StringUtils.fromString("maxOffset");
+    public static final BString MODE = StringUtils.fromString("mode");
+    public static final BString KEY = StringUtils.fromString("key");
+    public static final BString BURST_SIZE = StringUtils.fromString("burstSize");
+    public static final BString THROTTLE_POLICY = StringUtils.fromString("throttlePolicy");
+    public static final BString MAX_DELAY = StringUtils.fromString("maxDelay");
+    public static final BString PERMITTED = StringUtils.fromString("permitted");
+    public static final BString DELAYED = StringUtils.fromString("delayed");
+    public static final BString SHED_COUNT = StringUtils.fromString("shed");
 
     private TaskConstants() {
 
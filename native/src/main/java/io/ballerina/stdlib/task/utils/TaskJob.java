@@ -23,9 +23,13 @@ import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.types.ObjectType;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.task.execution.CircuitBreaker;
+import io.ballerina.stdlib.task.objects.JobRecord;
+import io.ballerina.stdlib.task.objects.JobStats;
 import io.ballerina.stdlib.task.objects.TaskManager;
 import org.quartz.Job;
 import org.quartz.JobExecutionContext;
+import org.quartz.SchedulerException;
 
 /**
  * Represents a Quartz job related to an appointment.
@@ -40,19 +44,67 @@ public class TaskJob implements Job {
      */
     @Override
     public void execute(JobExecutionContext jobExecutionContext) {
-        Thread.startVirtualThread(() -> {
+        TaskMetrics.onFire();
+        JobRecord jobRecord = JobRecord.from(jobExecutionContext);
+        JobStats stats = jobRecord.getStats();
+        stats.onFire(jobExecutionContext.getFireTime(), jobExecutionContext.getTrigger());
+        CircuitBreaker circuitBreaker = jobRecord.getCircuitBreaker();
+        if (circuitBreaker != null && !circuitBreaker.tryAcquire()) {
+            return;
+        }
+        Utils.getWorkerPool(jobExecutionContext).dispatch(jobExecutionContext.getTrigger().getPriority(), () -> {
+            if (!Utils.acquireExecutionPermit(jobExecutionContext)) {
+                return;
+            }
             Runtime runtime = TaskManager.getInstance().getRuntime();
-            BObject job = (BObject) jobExecutionContext.getMergedJobDataMap().get(TaskConstants.JOB);
+            BObject job = jobRecord.getJob();
+            boolean moreWork = false;
+            long startTime = System.nanoTime();
             try {
                 ObjectType objectType = (ObjectType) job.getOriginalType();
                 boolean isConcurrentSafe = objectType.isIsolated() && objectType.isIsolated(TaskConstants.EXECUTE);
                 StrandMetadata metadata = new StrandMetadata(isConcurrentSafe, null);
-                runtime.callMethod(job, TaskConstants.EXECUTE, metadata);
+                Utils.notifyMissedFires(runtime, job, jobExecutionContext);
+                Object result = Utils.callExecute(runtime, job, metadata, jobExecutionContext);
+                if (result instanceof BError error) {
+                    // An adaptive job or a timed out execution reports the failure as a return value
+                    throw error;
+                }
+                moreWork = Boolean.TRUE.equals(result);
+                stats.onCompletion(System.nanoTime() - startTime, null);
+                if (circuitBreaker != null) {
+                    circuitBreaker.onSuccess();
+                }
+                TaskManager.getInstance().notifySuccess(Integer.parseInt(jobRecord.getJobId()));
             } catch (BError error) {
+                stats.onCompletion(System.nanoTime() - startTime, error.getMessage());
+                recordFailure(circuitBreaker);
                 Utils.notifyFailure(jobExecutionContext, error);
             } catch (Throwable t) {
+                stats.onCompletion(System.nanoTime() - startTime, t.getMessage());
+                recordFailure(circuitBreaker);
                 Utils.notifyFailure(jobExecutionContext, ErrorCreator.createError(t));
             }
+            if (jobRecord.getAdaptiveInterval() != null) {
+                adaptInterval(jobRecord, moreWork);
+            }
         });
     }
+
+    private static void adaptInterval(JobRecord jobRecord, boolean moreWork) {
+        try {
+            TaskManager.getInstance().adaptInterval(jobRecord, moreWork);
+        } catch (SchedulerException e) {
+            if (jobRecord.getPolicy().errorPolicy().isLogged()) {
+                TaskLogger.error("Unable to adapt the interval of the job.", jobRecord.getJobId(),
+                        TaskLogger.ERROR_KEY, e.getMessage());
+            }
+        }
+    }
+
+    private static void recordFailure(CircuitBreaker circuitBreaker) {
+        if (circuitBreaker != null) {
+            circuitBreaker.onFailure();
+        }
+    }
 }
@@ -17,14 +17,10 @@
  */
 package io.ballerina.stdlib.task.utils;
 
-import io.ballerina.stdlib.task.objects.TaskManager;
 import org.quartz.JobExecutionContext;
 import org.quartz.Trigger;
 import org.quartz.TriggerListener;
 
-import java.io.PrintStream;
-import java.util.Map;
-
 /**
  * The class to get the notification when a trigger fires.
  *
@@ -33,7 +29,7 @@ import java.util.Map;
 public class TaskListener implements TriggerListener {
 
     private static final String TRIGGER_LISTENER_NAME = "TaskListener";
-    private static PrintStream console = System.err;
+    private static final String START_TIME = "startTime";
 
     @Override
     public String getName() {
@@ -52,17 +48,11 @@ public class TaskListener implements TriggerListener {
 
     @Override
     public void triggerMisfired(Trigger trigger) {
-        Map<Integer, Trigger> triggerInfo = TaskManager.getInstance().getTriggerInfoMap();
-        Integer jobId = null;
-        for (Map.Entry<Integer, Trigger> key : triggerInfo.entrySet()) {
-            if (key.getValue().getKey() == trigger.getKey()) {
-                jobId = key.getKey();
-                break;
-            }
-        }
-        Utils.printMessage("The trigger for time[" + trigger.getStartTime() + "] has ignored as couldn't " +
-        "get the resources to execute the job[" + jobId + "]", console);
-
+        TaskMetrics.onMisfire();
+        // The triggers are named after their jobs
+        String jobId = trigger.getKey().getName();
+        TaskLogger.warn("The trigger has been ignored as the resources to execute the job were not available.",
+                jobId, START_TIME, String.valueOf(trigger.getStartTime()));
     }
 
     @Override
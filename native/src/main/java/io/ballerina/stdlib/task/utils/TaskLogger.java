@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.task.utils;
+
+import java.io.PrintStream;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Logs the failures and the misfires of the jobs in the `logfmt` format of the `ballerina/log` module. The records
+ * are written to the standard error stream by a single writer thread through a bounded queue, so that the fire path
+ * neither formats nor blocks on the stream. The records of each job and message are rate limited to one per
+ * interval, and the number of the suppressed records is reported with the next record or after the interval.
+ *
+ * @since 2.11.1
+ */
+public final class TaskLogger {
+    public static final String MODULE = "ballerina/task";
+    public static final String ERROR = "ERROR";
+    public static final String WARN = "WARN";
+    public static final String JOB_ID = "jobId";
+    public static final String ERROR_KEY = "error";
+    public static final String SUPPRESSED = "suppressed";
+    public static final String DROPPED = "dropped";
+
+    private static final PrintStream console = System.err;
+    private static final DateTimeFormatter formatter = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
+    private static final BlockingQueue<LogRecord> queue = new ArrayBlockingQueue<>(TaskConstants.LOG_QUEUE_CAPACITY);
+    private static final Map<String, RateLimit> rateLimits = new ConcurrentHashMap<>();
+    private static final AtomicLong dropped = new AtomicLong();
+    private static final long rateLimitInterval = TimeUnit.MILLISECONDS.toNanos(TaskConstants.LOG_RATE_LIMIT_INTERVAL);
+
+    static {
+        Thread.ofVirtual().name("task-logger").start(TaskLogger::write);
+        Runtime.getRuntime().addShutdownHook(new Thread(TaskLogger::drain));
+    }
+
+    private TaskLogger() { }
+
+    /**
+     * Logs an error of a job.
+     *
+     * @param message The message, which does not vary between the records of the job
+     * @param jobId The ID of the job
+     * @param keyValues The additional keys and values of the record
+     */
+    public static void error(String message, String jobId, String... keyValues) {
+        log(ERROR, message, jobId, keyValues);
+    }
+
+    /**
+     * Logs a warning of a job.
+     *
+     * @param message The message, which does not vary between the records of the job
+     * @param jobId The ID of the job
+     * @param keyValues The additional keys and values of the record
+     */
+    public static void warn(String message, String jobId, String... keyValues) {
+        log(WARN, message, jobId, keyValues);
+    }
+
+    private static void log(String level, String message, String jobId, String[] keyValues) {
+        String key = jobId + ":" + message;
+        long suppressed;
+        while (true) {
+            RateLimit rateLimit = rateLimits.computeIfAbsent(key, k -> new RateLimit(level, message, jobId));
+            synchronized (rateLimit) {
+                // The rate limit is removed by the writer in the meantime
+                if (rateLimit.removed) {
+                    continue;
+                }
+                long now = System.nanoTime();
+                if (rateLimit.emitted && now - rateLimit.windowStart < rateLimitInterval) {
+                    rateLimit.suppressed++;
+                    return;
+                }
+                suppressed = rateLimit.suppressed;
+                rateLimit.suppressed = 0;
+                rateLimit.windowStart = now;
+                rateLimit.emitted = true;
+                break;
+            }
+        }
+        enqueue(new LogRecord(System.currentTimeMillis(), level, message, jobId, suppressed, keyValues));
+    }
+
+    private static void enqueue(LogRecord logRecord) {
+        if (!queue.offer(logRecord)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    private static void write() {
+        while (true) {
+            try {
+                LogRecord logRecord = queue.poll(TaskConstants.LOG_RATE_LIMIT_INTERVAL, TimeUnit.MILLISECONDS);
+                if (logRecord != null) {
+                    print(logRecord);
+                }
+                reportSuppressed();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ignored) {
+                // A failure to write a record does not stop the writer
+            }
+        }
+    }
+
+    private static void drain() {
+        LogRecord logRecord;
+        while ((logRecord = queue.poll()) != null) {
+            print(logRecord);
+        }
+    }
+
+    // Reports the records suppressed in the elapsed intervals, and removes the idle rate limits. The records are
+    // printed after the locks of the rate limits are released, so that the loggers do not wait on the stream.
+    private static void reportSuppressed() {
+        long now = System.nanoTime();
+        List<LogRecord> suppressedRecords = new ArrayList<>();
+        Iterator<RateLimit> iterator = rateLimits.values().iterator();
+        while (iterator.hasNext()) {
+            RateLimit rateLimit = iterator.next();
+            synchronized (rateLimit) {
+                if (now - rateLimit.windowStart < rateLimitInterval) {
+                    continue;
+                }
+                if (rateLimit.suppressed == 0) {
+                    rateLimit.removed = true;
+                    iterator.remove();
+                    continue;
+                }
+                suppressedRecords.add(new LogRecord(System.currentTimeMillis(), rateLimit.level, rateLimit.message,
+                        rateLimit.jobId, rateLimit.suppressed, new String[0]));
+                rateLimit.suppressed = 0;
+                rateLimit.windowStart = now;
+            }
+        }
+        suppressedRecords.forEach(TaskLogger::print);
+    }
+
+    private static void print(LogRecord logRecord) {
+        long droppedRecords = dropped.getAndSet(0);
+        if (droppedRecords > 0) {
+            console.println(format(System.currentTimeMillis(), WARN, "Dropped the log records as the queue is full.")
+                    .append(' ').append(DROPPED).append('=').append(droppedRecords));
+        }
+        StringBuilder line = format(logRecord.time(), logRecord.level(), logRecord.message());
+        appendValue(line.append(' ').append(JOB_ID).append('='), logRecord.jobId());
+        String[] keyValues = logRecord.keyValues();
+        for (int i = 0; i + 1 < keyValues.length; i += 2) {
+            appendValue(line.append(' ').append(keyValues[i]).append('='), keyValues[i + 1]);
+        }
+        if (logRecord.suppressed() > 0) {
+            line.append(' ').append(SUPPRESSED).append('=').append(logRecord.suppressed());
+        }
+        console.println(line);
+    }
+
+    private static StringBuilder format(long time, String level, String message) {
+        StringBuilder line = new StringBuilder(128);
+        line.append("time=").append(formatter.format(OffsetDateTime.ofInstant(Instant.ofEpochMilli(time),
+                ZoneId.systemDefault())));
+        line.append(" level=").append(level).append(" module=").append(MODULE).append(" message=");
+        return appendValue(line, message);
+    }
+
+    private static StringBuilder appendValue(StringBuilder line, String value) {
+        line.append('"');
+        if (value != null) {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '"' -> line.append("\\\"");
+                    case '\\' -> line.append("\\\\");
+                    case '\n' -> line.append("\\n");
+                    case '\r' -> line.append("\\r");
+                    case '\t' -> line.append("\\t");
+                    default -> line.append(c);
+                }
+            }
+        }
+        return line.append('"');
+    }
+
+    private static final class RateLimit {
+        private final String level;
+        private final String message;
+        private final String jobId;
+        private long windowStart;
+        private long suppressed;
+        private boolean emitted;
+        private boolean removed;
+
+        private RateLimit(String level, String message, String jobId) {
+            this.level = level;
+            this.message = message;
+            this.jobId = jobId;
+        }
+    }
+
+    private record LogRecord(long time, String level, String message, String jobId, long suppressed,
+                             String[] keyValues) { }
+}
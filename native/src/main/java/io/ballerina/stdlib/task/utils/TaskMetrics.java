@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com)
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.task.utils;
+
+import io.ballerina.runtime.observability.ObserveUtils;
+import io.ballerina.runtime.observability.metrics.Counter;
+import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
+import io.ballerina.runtime.observability.metrics.Gauge;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.Tag;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Publishes the metrics of the scheduler to the Ballerina metrics registry, so that they are exported by the
+ * configured metrics reporter. The metrics are registered once, when they are first updated while the metrics are
+ * enabled, and are updated without allocating on the fire path. If the metrics are disabled, the updates are no-ops.
+ *
+ * @since 2.11.1
+ */
+public final class TaskMetrics {
+
+    private static final String PREFIX = "task_";
+    private static final String GROUP_TAG = "group";
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private TaskMetrics() {}
+
+    public static void onJobScheduled() {
+        if (ObserveUtils.isMetricsEnabled()) {
+            Metrics.JOBS_SCHEDULED.increment();
+        }
+    }
+
+    public static void onFire() {
+        if (ObserveUtils.isMetricsEnabled()) {
+            Metrics.FIRES.increment();
+        }
+    }
+
+    public static void onMisfire() {
+        if (ObserveUtils.isMetricsEnabled()) {
+            Metrics.MISFIRES.increment();
+        }
+    }
+
+    public static void onFailure() {
+        if (ObserveUtils.isMetricsEnabled()) {
+            Metrics.FAILURES.increment();
+        }
+    }
+
+    public static void onRetry() {
+        if (ObserveUtils.isMetricsEnabled()) {
+            Metrics.RETRIES.increment();
+        }
+    }
+
+    public static void onExecutionStarted() {
+        if (ObserveUtils.isMetricsEnabled()) {
+            Metrics.IN_FLIGHT_EXECUTIONS.increment();
+        }
+    }
+
+    public static void onExecutionCompleted() {
+        if (ObserveUtils.isMetricsEnabled()) {
+            Metrics.IN_FLIGHT_EXECUTIONS.decrement();
+        }
+    }
+
+    /**
+     * Records whether this node holds the token of a task coordination group.
+     *
+     * @param groupId The ID of the coordination group
+     * @param tokenHolder Whether this node holds the token
+     */
+    public static void setTokenHolder(String groupId, boolean tokenHolder) {
+        if (ObserveUtils.isMetricsEnabled()) {
+            Metrics.TOKEN_HOLDERS.computeIfAbsent(groupId, TaskMetrics::createTokenHolderGauge)
+                    .setValue(tokenHolder ? 1 : 0);
+        }
+    }
+
+    /**
+     * Records the latency of a heartbeat write of the task coordination.
+     *
+     * @param latencyInNanos The time taken to write the heartbeat (in nanoseconds)
+     */
+    public static void onHeartbeat(long latencyInNanos) {
+        if (ObserveUtils.isMetricsEnabled()) {
+            Metrics.HEARTBEAT_LATENCY.setValue(latencyInNanos / NANOS_PER_SECOND);
+        }
+    }
+
+    private static Gauge createTokenHolderGauge(String groupId) {
+        return DefaultMetricRegistry.getInstance().gauge(new MetricId(PREFIX + "token_holder",
+                "Whether this node holds the token of the task coordination group",
+                Set.of(new Tag(GROUP_TAG, groupId))));
+    }
+
+    // Registers the metrics on the first update, after the metrics provider of the runtime is initialized
+    private static final class Metrics {
+
+        private static final Counter JOBS_SCHEDULED = counter("jobs_scheduled_total",
+                "Number of jobs and listener services scheduled");
+        private static final Counter FIRES = counter("fires_total", "Number of triggers fired");
+        private static final Counter MISFIRES = counter("misfires_total",
+                "Number of triggers skipped as they could not be executed in time");
+        private static final Counter FAILURES = counter("failures_total", "Number of failed job executions");
+        private static final Counter RETRIES = counter("retries_total",
+                "Number of retried listener service executions");
+        private static final Gauge IN_FLIGHT_EXECUTIONS = gauge("in_flight_executions",
+                "Number of job executions currently running");
+        private static final Gauge HEARTBEAT_LATENCY = gauge("heartbeat_latency_seconds",
+                "Time taken by the last heartbeat write of the task coordination");
+        private static final Map<String, Gauge> TOKEN_HOLDERS = new ConcurrentHashMap<>();
+
+        private static Counter counter(String name, String description) {
+            return DefaultMetricRegistry.getInstance().counter(new MetricId(PREFIX + name, description, Set.of()));
+        }
+
+        private static Gauge gauge(String name, String description) {
+            return DefaultMetricRegistry.getInstance().gauge(new MetricId(PREFIX + name, description, Set.of()));
+        }
+    }
+}
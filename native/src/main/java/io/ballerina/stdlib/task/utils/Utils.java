@@ -17,26 +17,50 @@
  */
 package io.ballerina.stdlib.task.utils;
 
+import io.ballerina.runtime.api.Runtime;
+import io.ballerina.runtime.api.concurrent.StrandMetadata;
 import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.types.MethodType;
+import io.ballerina.runtime.api.types.ObjectType;
 import io.ballerina.runtime.api.types.TypeTags;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.observability.ObserveUtils;
 import io.ballerina.stdlib.task.exceptions.SchedulingException;
+import io.ballerina.stdlib.task.execution.AdaptiveInterval;
+import io.ballerina.stdlib.task.execution.CatchUpState;
+import io.ballerina.stdlib.task.execution.CircuitBreaker;
+import io.ballerina.stdlib.task.execution.ExecutionDispatcher;
+import io.ballerina.stdlib.task.execution.RateLimiterRegistry;
+import io.ballerina.stdlib.task.execution.ResizableThreadPool;
+import io.ballerina.stdlib.task.execution.TaskClock;
+import io.ballerina.stdlib.task.objects.CoordinationState;
+import io.ballerina.stdlib.task.objects.ErrorPolicy;
+import io.ballerina.stdlib.task.objects.JobPolicy;
+import io.ballerina.stdlib.task.objects.JobRecord;
+import io.ballerina.stdlib.task.objects.RetryPolicy;
 import io.ballerina.stdlib.task.server.TaskServerJob;
-import org.quartz.JobBuilder;
-import org.quartz.JobDataMap;
-import org.quartz.JobDetail;
 import org.quartz.JobExecutionContext;
 import org.quartz.Scheduler;
+import org.quartz.SchedulerConfigException;
 import org.quartz.SchedulerException;
 import org.quartz.SimpleScheduleBuilder;
 import org.quartz.Trigger;
 import org.quartz.TriggerBuilder;
-import org.quartz.impl.StdSchedulerFactory;
+import org.quartz.TriggerKey;
+import org.quartz.impl.DirectSchedulerFactory;
 import org.quartz.impl.matchers.GroupMatcher;
+import org.quartz.simpl.RAMJobStore;
+import org.quartz.spi.JobStore;
+import org.quartz.spi.ThreadPool;
 
 import java.io.PrintStream;
+import java.math.BigDecimal;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
@@ -45,6 +69,8 @@ import java.util.Date;
 import java.util.Enumeration;
 import java.util.Properties;
 import java.util.UUID;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Level;
 import java.util.logging.LogManager;
 import java.util.logging.Logger;
@@ -60,7 +86,7 @@ public final class Utils {
 
     private static final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
 
-    private static final PrintStream console = System.out;
+    private static final AtomicBoolean quartzLogsDisabled = new AtomicBoolean(false);
 
     public static BError createTaskError(String message) {
         return ErrorCreator.createDistinctError(TaskConstants.ERROR, ModuleUtils.getModule(),
@@ -74,50 +100,263 @@ public final class Utils {
         return properties;
     }
 
-    public static Scheduler initializeScheduler(Properties properties) throws SchedulingException {
+    public static ResizableThreadPool createThreadPool(Properties properties) throws SchedulingException {
         try {
-            StdSchedulerFactory stdSchedulerFactory = new StdSchedulerFactory(properties);
-            Scheduler scheduler = stdSchedulerFactory.getScheduler();
+            return new ResizableThreadPool(Integer.parseInt(properties.getProperty(TaskConstants.QUARTZ_THREAD_COUNT)));
+        } catch (SchedulerConfigException e) {
+            throw new SchedulingException("Cannot create the Scheduler." + e.getMessage());
+        }
+    }
+
+    public static RAMJobStore createJobStore(Properties properties) {
+        RAMJobStore jobStore = new RAMJobStore();
+        jobStore.setMisfireThreshold(Long.parseLong(properties.getProperty(TaskConstants.QUARTZ_MISFIRE_THRESHOLD)));
+        return jobStore;
+    }
+
+    public static Scheduler initializeScheduler(ThreadPool threadPool, JobStore jobStore) throws SchedulingException {
+        try {
+            String schedulerName = TaskConstants.SCHEDULER_NAME + "-" + UUID.randomUUID();
+            DirectSchedulerFactory schedulerFactory = DirectSchedulerFactory.getInstance();
+            schedulerFactory.createScheduler(schedulerName, DirectSchedulerFactory.DEFAULT_INSTANCE_ID, threadPool,
+                    jobStore);
+            Scheduler scheduler = schedulerFactory.getScheduler(schedulerName);
             scheduler.getListenerManager().addTriggerListener(new TaskListener(),
                     GroupMatcher.triggerGroupEquals(TaskConstants.LOG));
+            scheduler.getListenerManager().addTriggerListener(new CatchUpListener(),
+                    GroupMatcher.triggerGroupEquals(TaskConstants.CATCH_UP_GROUP));
+            if (ObserveUtils.isMetricsEnabled()) {
+                scheduler.getListenerManager().addTriggerListener(new MisfireListener(),
+                        GroupMatcher.triggerGroupEquals(TaskConstants.TRIGGER_ID));
+            }
             return scheduler;
         } catch (SchedulerException e) {
             throw new SchedulingException("Cannot create the Scheduler." + e.getMessage());
         }
     }
 
-    public static JobDetail createJob(JobDataMap jobDataMap, String jobId) {
-        return JobBuilder.newJob(TaskJob.class).withIdentity(jobId).usingJobData(jobDataMap).build();
+    /**
+     * Applies the worker count and the misfire threshold to a running scheduler without rescheduling its jobs.
+     *
+     * @param threadPool The thread pool of the scheduler
+     * @param jobStore The job store of the scheduler
+     * @param properties The scheduler properties
+     * @throws SchedulingException If the worker count is invalid
+     */
+    public static void reconfigureScheduler(ResizableThreadPool threadPool, RAMJobStore jobStore,
+                                            Properties properties) throws SchedulingException {
+        jobStore.setMisfireThreshold(Long.parseLong(properties.getProperty(TaskConstants.QUARTZ_MISFIRE_THRESHOLD)));
+        try {
+            threadPool.setPoolSize(Integer.parseInt(properties.getProperty(TaskConstants.QUARTZ_THREAD_COUNT)));
+        } catch (SchedulerConfigException e) {
+            throw new SchedulingException("Cannot create the Scheduler." + e.getMessage());
+        }
+    }
+
+    /**
+     * Creates the record of a job, which is scheduled with the given `task:TaskPolicy`.
+     *
+     * @param jobId The ID of the job
+     * @param job The Ballerina job
+     * @param policy The `task:TaskPolicy` of the job
+     * @return The job record
+     */
+    public static JobRecord createJob(String jobId, BObject job, BMap<BString, Object> policy) {
+        return new JobRecord(jobId, TaskJob.class, job, getJobPolicy(policy), getTriggerGroup(policy),
+                CircuitBreaker.fromPolicy(policy), CatchUpState.fromPolicy(policy));
+    }
+
+    /**
+     * Creates the record of an adaptive job, whose interval adapts to the outcome of its executions.
+     *
+     * @param jobId The ID of the job
+     * @param job The Ballerina adaptive job
+     * @param policy The `task:TaskPolicy` of the job
+     * @param adaptiveInterval The adaptive interval of the job
+     * @return The job record
+     */
+    public static JobRecord createAdaptiveJob(String jobId, BObject job, BMap<BString, Object> policy,
+                                              AdaptiveInterval adaptiveInterval) {
+        return new JobRecord(jobId, TaskJob.class, job, getJobPolicy(policy), getTriggerGroup(policy),
+                CircuitBreaker.fromPolicy(policy), CatchUpState.fromPolicy(policy), null, 0, null, adaptiveInterval);
     }
 
-    public static JobDetail createListenerJob(JobDataMap jobDataMap, String jobId) {
-        return JobBuilder.newJob(TaskServerJob.class).withIdentity(jobId).usingJobData(jobDataMap).build();
+    /**
+     * Creates the record of a one-time job, which follows the `LOG_AND_CONTINUE` error policy.
+     *
+     * @param jobId The ID of the job
+     * @param job The Ballerina job
+     * @return The job record
+     */
+    public static JobRecord createOneTimeJob(String jobId, BObject job) {
+        return new JobRecord(jobId, TaskJob.class, job, JobPolicy.of(ErrorPolicy.LOG_AND_CONTINUE, null, null,
+                JobPolicy.NO_TIMEOUT),
+                TaskConstants.TRIGGER_ID, null, null);
+    }
+
+    /**
+     * Creates the record of a listener service job.
+     *
+     * @param jobId The ID of the service
+     * @param service The Ballerina service
+     * @param policy The `task:TaskPolicy` of the listener
+     * @param retryPolicy The retry policy of the listener or else null
+     * @param interval The interval of the listener
+     * @param coordinationState The task coordination state of the service or else null
+     * @return The job record
+     */
+    public static JobRecord createListenerJob(String jobId, BObject service, BMap<BString, Object> policy,
+                                              RetryPolicy retryPolicy, BDecimal interval,
+                                              CoordinationState coordinationState) {
+        return new JobRecord(jobId, TaskServerJob.class, service, getJobPolicy(policy), getTriggerGroup(policy),
+                CircuitBreaker.fromPolicy(policy), CatchUpState.fromPolicy(policy), retryPolicy,
+                interval.decimalValue().doubleValue(), coordinationState, null);
+    }
+
+    /**
+     * Creates the record of a rescheduled job or listener service, which keeps the ID, the Ballerina job and the
+     * task coordination state of the current record. A rescheduled adaptive job runs at the given fixed interval.
+     *
+     * @param current The current record of the job
+     * @param policy The new `task:TaskPolicy` of the job
+     * @param retryPolicy The new retry policy of the listener or else null
+     * @param interval The new interval of the job
+     * @return The job record
+     */
+    /**
+     * Creates the record of a rescheduled job, which keeps the policy of its current record.
+     *
+     * @param current The current record of the job
+     * @param interval The new interval (in seconds) of the job
+     * @return The record of the rescheduled job
+     */
+    public static JobRecord updateJob(JobRecord current, BDecimal interval) {
+        JobRecord jobRecord = new JobRecord(current.getJobId(), current.getJobClass(), current.getJob(),
+                current.getPolicy(), current.getTriggerKey().getGroup(), current.getCircuitBreaker(),
+                current.getCatchUpState(), current.getRetryPolicy(), interval.decimalValue().doubleValue(),
+                current.getCoordinationState(), null);
+        jobRecord.inheritStats(current);
+        return jobRecord;
+    }
+
+    public static JobRecord updateJob(JobRecord current, BMap<BString, Object> policy, RetryPolicy retryPolicy,
+                                      BDecimal interval) {
+        JobRecord jobRecord = new JobRecord(current.getJobId(), current.getJobClass(), current.getJob(),
+                getJobPolicy(policy), getTriggerGroup(policy),
+                CircuitBreaker.fromPolicy(policy, current.getCircuitBreaker()),
+                CatchUpState.fromPolicy(policy, current.getCatchUpState()), retryPolicy,
+                interval.decimalValue().doubleValue(), current.getCoordinationState(), null);
+        jobRecord.inheritStats(current);
+        return jobRecord;
+    }
+
+    private static JobPolicy getJobPolicy(BMap<BString, Object> policy) {
+        String rateLimiterGroup = null;
+        if (policy.get(TaskConstants.RATE_LIMITER_GROUP_CONFIG) instanceof BString group) {
+            rateLimiterGroup = group.getValue();
+        }
+        String workerPool = null;
+        if (policy.get(TaskConstants.WORKER_POOL_CONFIG) instanceof BString poolName) {
+            workerPool = poolName.getValue();
+            ExecutionDispatcher.getWorkerPool(workerPool);
+        }
+        long timeout = JobPolicy.NO_TIMEOUT;
+        if (policy.get(TaskConstants.TIMEOUT) instanceof BDecimal timeoutConfig) {
+            BigDecimal timeoutValue = timeoutConfig.decimalValue();
+            if (timeoutValue.signum() <= 0) {
+                throw new IllegalArgumentException("The timeout should be a positive value.");
+            }
+            timeout = Math.max(1, timeoutValue.multiply(new BigDecimal(TaskConstants.MILLIS_PER_SECOND)).longValue());
+        }
+        return JobPolicy.of(ErrorPolicy.fromString(((BString) policy.get(TaskConstants.ERR_POLICY)).getValue()),
+                rateLimiterGroup, workerPool, timeout);
+    }
+
+    private static String getTriggerGroup(BMap<BString, Object> policy) {
+        String waitingPolicy = ((BString) policy.get(TaskConstants.WAITING_POLICY)).getValue();
+        if (waitingPolicy.equalsIgnoreCase(TaskConstants.LOG_AND_IGNORE)) {
+            return TaskConstants.LOG;
+        } else if (isCatchUpPolicy(waitingPolicy)) {
+            return TaskConstants.CATCH_UP_GROUP;
+        }
+        return TaskConstants.TRIGGER_ID;
     }
 
-    public static Trigger getOneTimeTrigger(long time, String triggerID) {
-        String triggerKey = UUID.randomUUID().toString();
+    /**
+     * Gets the worker pool, which executes the job of the given execution context.
+     *
+     * @param jobExecutionContext The context of the current execution
+     * @return The worker pool of the job
+     */
+    public static ExecutionDispatcher getWorkerPool(JobExecutionContext jobExecutionContext) {
+        return ExecutionDispatcher.getJobWorkerPool(JobRecord.from(jobExecutionContext).getPolicy().workerPool());
+    }
+
+    /**
+     * Acquires an execution permit from the rate limiters which apply to the job. When the fire is shed or has
+     * waited in its worker pool longer than the misfire threshold, a circuit breaker probe admitted for this fire
+     * is released.
+     *
+     * @param jobExecutionContext The context of the current execution
+     * @return true if the job can be executed, false if the fire is skipped
+     */
+    public static boolean acquireExecutionPermit(JobExecutionContext jobExecutionContext) {
+        JobRecord jobRecord = JobRecord.from(jobExecutionContext);
+        if (!getWorkerPool(jobExecutionContext).isMisfired(jobExecutionContext.getScheduledFireTime()) &&
+                RateLimiterRegistry.acquire(jobRecord.getPolicy().rateLimiterGroup())) {
+            return true;
+        }
+        CircuitBreaker circuitBreaker = jobRecord.getCircuitBreaker();
+        if (circuitBreaker != null) {
+            circuitBreaker.cancelProbe();
+        }
+        return false;
+    }
+
+    public static Trigger getOneTimeTrigger(long time, TriggerKey triggerKey, int priority) {
         Date startTime = new Date(time);
-        return TriggerBuilder.newTrigger().withIdentity(triggerKey, triggerID).startAt(startTime).build();
+        return TriggerBuilder.newTrigger().withIdentity(triggerKey).startAt(startTime)
+                .withPriority(priority).build();
     }
 
     public static Trigger getIntervalTrigger(long interval, long maxCount, Object startTime, Object endTime,
-                                             String waitingPolicy, String triggerID) {
+                                             String waitingPolicy, TriggerKey triggerKey, int priority) {
         SimpleScheduleBuilder simpleScheduleBuilder = SimpleScheduleBuilder.simpleSchedule().
                 withIntervalInMilliseconds(interval);
         setMaxCount(simpleScheduleBuilder, maxCount);
         setMisfire(simpleScheduleBuilder, waitingPolicy);
-        if (waitingPolicy.equalsIgnoreCase(TaskConstants.LOG_AND_IGNORE)) {
-            triggerID = TaskConstants.LOG;
-        }
-        return getTrigger(simpleScheduleBuilder, startTime, endTime, triggerID);
+        return getTrigger(simpleScheduleBuilder, startTime, endTime, triggerKey, priority);
+    }
+
+    /**
+     * Creates the trigger of a dependent job. The trigger does not fire on its own, but is moved to the given start
+     * time once the upstream jobs of the job complete. A fire, which is due while the job is paused, is run when
+     * the job is resumed.
+     *
+     * @param startTime The time to fire the job at
+     * @param triggerKey The key of the trigger
+     * @param priority The priority of the trigger
+     * @return The trigger
+     */
+    public static Trigger getDependentTrigger(long startTime, TriggerKey triggerKey, int priority) {
+        SimpleScheduleBuilder simpleScheduleBuilder = SimpleScheduleBuilder.simpleSchedule()
+                .withIntervalInMilliseconds(TaskConstants.DORMANT_INTERVAL).repeatForever()
+                .withMisfireHandlingInstructionIgnoreMisfires();
+        return getTrigger(simpleScheduleBuilder, startTime, null, triggerKey, priority);
     }
 
     public static void setMisfire(SimpleScheduleBuilder simpleScheduleBuilder, String waitingPolicy) {
-        if (TaskConstants.WAIT.equalsIgnoreCase(waitingPolicy)) {
+        // The missed triggers of the catch-up policies are replayed by Quartz and vetoed by the CatchUpListener
+        if (TaskConstants.WAIT.equalsIgnoreCase(waitingPolicy) || isCatchUpPolicy(waitingPolicy)) {
             simpleScheduleBuilder.withMisfireHandlingInstructionIgnoreMisfires();
         }
     }
 
+    private static boolean isCatchUpPolicy(String waitingPolicy) {
+        return TaskConstants.COALESCE.equalsIgnoreCase(waitingPolicy) ||
+                TaskConstants.CATCH_UP.equalsIgnoreCase(waitingPolicy);
+    }
+
     public static void setMaxCount(SimpleScheduleBuilder simpleScheduleBuilder, long maxCount) {
         if (maxCount > 0) {
             simpleScheduleBuilder.withRepeatCount((int) (maxCount - 1));
@@ -127,28 +366,29 @@ public final class Utils {
     }
 
     public static Trigger getTrigger(SimpleScheduleBuilder simpleScheduleBuilder, Object startTime, Object endTime,
-                                     String triggerID) {
+                                     TriggerKey triggerKey, int priority) {
         Date startDate;
         Date endDate;
         Trigger trigger;
-        String triggerKey = UUID.randomUUID().toString();
 
         if (isInt(startTime) && isInt(endTime)) {
             startDate = new Date((Long) startTime);
             endDate = new Date((Long) endTime);
-            trigger = TriggerBuilder.newTrigger().withIdentity(triggerKey, triggerID).startAt(startDate).endAt(endDate).
-                    withSchedule(simpleScheduleBuilder).build();
+            trigger = TriggerBuilder.newTrigger().withIdentity(triggerKey).withPriority(priority).
+                    startAt(startDate).endAt(endDate).withSchedule(simpleScheduleBuilder).build();
         } else if (isInt(startTime)) {
             startDate = new Date((Long) startTime);
-            trigger = TriggerBuilder.newTrigger().withIdentity(triggerKey, triggerID).startAt(startDate).
-                    withSchedule(simpleScheduleBuilder).build();
+            trigger = TriggerBuilder.newTrigger().withIdentity(triggerKey).withPriority(priority).
+                    startAt(startDate).withSchedule(simpleScheduleBuilder).build();
         } else if (isInt(endTime)) {
             endDate = new Date((Long) endTime);
-            trigger = TriggerBuilder.newTrigger().withIdentity(triggerKey, triggerID).endAt(endDate).
-                    withSchedule(simpleScheduleBuilder).build();
+            trigger = TriggerBuilder.newTrigger().withIdentity(triggerKey).withPriority(priority).
+                    startAt(new Date(TaskClock.get().currentTimeMillis())).endAt(endDate)
+                    .withSchedule(simpleScheduleBuilder).build();
         } else {
-            trigger = TriggerBuilder.newTrigger().withIdentity(triggerKey, triggerID).
-                    withSchedule(simpleScheduleBuilder).build();
+            trigger = TriggerBuilder.newTrigger().withIdentity(triggerKey).withPriority(priority).
+                    startAt(new Date(TaskClock.get().currentTimeMillis())).withSchedule(simpleScheduleBuilder)
+                    .build();
         }
         return trigger;
     }
@@ -159,6 +399,10 @@ public final class Utils {
     }
 
     public static void disableQuartzLogs() {
+        // The loggers created afterwards inherit the level of the root logger, so that a single sweep is enough
+        if (!quartzLogsDisabled.compareAndSet(false, true)) {
+            return;
+        }
         Logger.getLogger("").setLevel(Level.OFF);
         LogManager logManager = LogManager.getLogManager();
         Enumeration<String> names = logManager.getLoggerNames();
@@ -169,35 +413,94 @@ public final class Utils {
         }
     }
 
+    public static boolean hasMethod(BObject object, String methodName) {
+        ObjectType objectType = (ObjectType) TypeUtils.getReferredType(TypeUtils.getType(object));
+        for (MethodType method : objectType.getMethods()) {
+            if (methodName.equals(method.getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Reports the number of missed triggers, which were coalesced into the current execution, to the
+     * `onMissedFires` method of the job if it is defined.
+     *
+     * @param runtime The Ballerina runtime
+     * @param job The Ballerina job or service
+     * @param jobExecutionContext The context of the current execution
+     */
+    public static void notifyMissedFires(Runtime runtime, BObject job, JobExecutionContext jobExecutionContext) {
+        CatchUpState catchUpState = JobRecord.from(jobExecutionContext).getCatchUpState();
+        if (catchUpState == null) {
+            return;
+        }
+        int missedFires = catchUpState.takeMissedFires();
+        if (missedFires > 0 && hasMethod(job, TaskConstants.ON_MISSED_FIRES)) {
+            ObjectType objectType = (ObjectType) TypeUtils.getReferredType(TypeUtils.getType(job));
+            boolean isConcurrentSafe = objectType.isIsolated() &&
+                    objectType.isIsolated(TaskConstants.ON_MISSED_FIRES);
+            runtime.callMethod(job, TaskConstants.ON_MISSED_FIRES, new StrandMetadata(isConcurrentSafe, null),
+                    (long) missedFires);
+        }
+    }
+
     public static boolean isInt(Object time) {
         return TypeUtils.getType(time).getTag() == TypeTags.INT_TAG;
     }
 
+    /**
+     * Calls the `execute` method of a job within the timeout of the job. An execution, which overruns the timeout,
+     * is abandoned, so that it releases its slot in the worker pool, and is reported as an error.
+     *
+     * @param runtime The Ballerina runtime
+     * @param job The Ballerina job or service
+     * @param metadata The strand metadata of the execution
+     * @param jobExecutionContext The execution context of the job
+     * @return The result of the execution or else a `task:Error` if the execution timed out
+     */
+    public static Object callExecute(Runtime runtime, BObject job, StrandMetadata metadata,
+                                     JobExecutionContext jobExecutionContext) {
+        JobRecord jobRecord = JobRecord.from(jobExecutionContext);
+        long timeout = jobRecord.getPolicy().timeout();
+        TaskMetrics.onExecutionStarted();
+        try {
+            if (timeout == JobPolicy.NO_TIMEOUT) {
+                return runtime.callMethod(job, TaskConstants.EXECUTE, metadata);
+            }
+            return getWorkerPool(jobExecutionContext).callWithTimeout(
+                    () -> runtime.callMethod(job, TaskConstants.EXECUTE, metadata), timeout);
+        } catch (TimeoutException e) {
+            return createTaskError("The execution of the job[" + jobRecord.getJobId() + "] timed out after " +
+                    timeout + " ms.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return createTaskError("The execution of the job[" + jobRecord.getJobId() + "] was interrupted.");
+        } finally {
+            TaskMetrics.onExecutionCompleted();
+        }
+    }
+
     public static void notifyFailure(JobExecutionContext jobExecutionContext, BError bError) {
         Scheduler scheduler = jobExecutionContext.getScheduler();
-        String errorPolicy = (String) jobExecutionContext.getMergedJobDataMap().get(TaskConstants.ERROR_POLICY);
-        String jobId = (String) jobExecutionContext.getMergedJobDataMap().get(TaskConstants.JOB_ID);
-        if (isLogged(errorPolicy)) {
-            Utils.printMessage("Unable to execute the job[" + jobId + "]. " + bError.getMessage(), console);
+        TaskMetrics.onFailure();
+        JobRecord jobRecord = JobRecord.from(jobExecutionContext);
+        ErrorPolicy errorPolicy = jobRecord.getPolicy().errorPolicy();
+        if (errorPolicy.isLogged()) {
+            TaskLogger.error("Unable to execute the job.", jobRecord.getJobId(), TaskLogger.ERROR_KEY,
+                    bError.getMessage());
         }
-        if (isTerminated(errorPolicy)) {
+        if (errorPolicy.isTerminated()) {
             try {
                 scheduler.unscheduleJob(jobExecutionContext.getTrigger().getKey());
+                jobRecord.getStats().complete();
             } catch (SchedulerException e) {
-                if (errorPolicy.equalsIgnoreCase(TaskConstants.LOG_AND_TERMINATE)) {
-                    Utils.printMessage(e.toString(), console);
+                if (errorPolicy.isLogged()) {
+                    TaskLogger.error("Unable to unschedule the job.", jobRecord.getJobId(), TaskLogger.ERROR_KEY,
+                            e.toString());
                 }
             }
         }
     }
-
-    private static boolean isLogged(String errorPolicy) {
-        return errorPolicy.equalsIgnoreCase(TaskConstants.LOG_AND_TERMINATE) ||
-                errorPolicy.equalsIgnoreCase(TaskConstants.LOG_AND_CONTINUE);
-    }
-
-    private static boolean isTerminated(String errorPolicy) {
-        return errorPolicy.equalsIgnoreCase(TaskConstants.LOG_AND_TERMINATE) ||
-                errorPolicy.equalsIgnoreCase(TaskConstants.TERMINATE);
-    }
 }